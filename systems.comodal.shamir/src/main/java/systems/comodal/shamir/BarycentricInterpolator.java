@@ -0,0 +1,223 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+public final class BarycentricInterpolator {
+
+  private final PrimeField field;
+  private BigInteger[] positions;
+  private BigInteger[] shares;
+  private BigInteger[] weights;
+  private int numPoints;
+
+  private BarycentricInterpolator(final PrimeField field, final int capacity) {
+    this.field = field;
+    this.positions = new BigInteger[capacity];
+    this.shares = new BigInteger[capacity];
+    this.weights = new BigInteger[capacity];
+  }
+
+  public static BarycentricInterpolator create(final BigInteger prime) {
+    return new BarycentricInterpolator(PrimeField.create(prime), 8);
+  }
+
+  public static BarycentricInterpolator create(final BigInteger prime,
+                                               final Map.Entry<BigInteger, BigInteger>[] coordinates) {
+    return create(prime, Arrays.asList(coordinates));
+  }
+
+  public static BarycentricInterpolator create(final BigInteger prime,
+                                               final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries) {
+    int numPoints = 0;
+    for (final var ignored : coordinateEntries) {
+      numPoints++;
+    }
+    final var interpolator = new BarycentricInterpolator(PrimeField.create(prime), Math.max(8, numPoints));
+    final var field = interpolator.field;
+    for (final var point : coordinateEntries) {
+      interpolator.positions[interpolator.numPoints] = field.mod(point.getKey());
+      interpolator.shares[interpolator.numPoints++] = field.mod(point.getValue());
+    }
+    interpolator.initWeights();
+    return interpolator;
+  }
+
+  static BarycentricInterpolator create(final PrimeField field,
+                                        final int[] positions,
+                                        final BigInteger[] shares,
+                                        final int numPoints) {
+    final var interpolator = new BarycentricInterpolator(field, Math.max(8, numPoints));
+    for (int i = 0; i < numPoints; i++) {
+      interpolator.positions[i] = field.mod(BigInteger.valueOf(positions[i]));
+      interpolator.shares[i] = field.mod(shares[i]);
+    }
+    interpolator.numPoints = numPoints;
+    interpolator.initWeights();
+    return interpolator;
+  }
+
+  // w_j = 1 / prod_{m != j} (x_j - x_m)
+  private void initWeights() {
+    for (int j = 0; j < numPoints; j++) {
+      var denominator = BigInteger.ONE;
+      final var position = positions[j];
+      for (int m = 0; m < numPoints; m++) {
+        if (m != j) {
+          denominator = field.mod(denominator.multiply(position.subtract(positions[m])));
+        }
+      }
+      if (denominator.signum() == 0) {
+        throw new IllegalArgumentException("Duplicate share position " + position);
+      }
+      weights[j] = denominator;
+    }
+    field.inverse(weights, numPoints);
+  }
+
+  public BigInteger getPrime() {
+    return field.prime;
+  }
+
+  public int getNumPoints() {
+    return numPoints;
+  }
+
+  public BigInteger[] getPositions() {
+    return Arrays.copyOf(positions, numPoints);
+  }
+
+  public BigInteger[] getShares() {
+    return Arrays.copyOf(shares, numPoints);
+  }
+
+  private int indexOf(final BigInteger fieldPosition) {
+    for (int i = 0; i < numPoints; i++) {
+      if (positions[i].equals(fieldPosition)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // Divides every existing weight by (x_j - x_new) and derives the new weight, sharing one inversion.
+  public BarycentricInterpolator addShare(final BigInteger position, final BigInteger share) {
+    final var fieldPosition = field.mod(position);
+    if (indexOf(fieldPosition) >= 0) {
+      throw new IllegalArgumentException("Duplicate share position " + position);
+    }
+    if (numPoints == positions.length) {
+      final int capacity = numPoints << 1;
+      positions = Arrays.copyOf(positions, capacity);
+      shares = Arrays.copyOf(shares, capacity);
+      weights = Arrays.copyOf(weights, capacity);
+    }
+    final var differences = new BigInteger[numPoints + 1];
+    var denominator = BigInteger.ONE;
+    for (int j = 0; j < numPoints; j++) {
+      differences[j] = field.subtract(positions[j], fieldPosition);
+      denominator = field.mod(denominator.multiply(differences[j]));
+    }
+    differences[numPoints] = (numPoints & 1) == 0 ? denominator : field.subtract(BigInteger.ZERO, denominator);
+    field.inverse(differences, numPoints + 1);
+    for (int j = 0; j < numPoints; j++) {
+      weights[j] = field.multiply(weights[j], differences[j]);
+    }
+    positions[numPoints] = fieldPosition;
+    shares[numPoints] = field.mod(share);
+    weights[numPoints] = differences[numPoints];
+    numPoints++;
+    return this;
+  }
+
+  // Multiplies every remaining weight by (x_j - x_removed), no inversion needed.
+  public BarycentricInterpolator removeShare(final BigInteger position) {
+    final var fieldPosition = field.mod(position);
+    final int index = indexOf(fieldPosition);
+    if (index < 0) {
+      throw new IllegalArgumentException("No share for position " + position);
+    }
+    final int numMoved = numPoints - index - 1;
+    System.arraycopy(positions, index + 1, positions, index, numMoved);
+    System.arraycopy(shares, index + 1, shares, index, numMoved);
+    System.arraycopy(weights, index + 1, weights, index, numMoved);
+    positions[--numPoints] = null;
+    shares[numPoints] = null;
+    weights[numPoints] = null;
+    for (int j = 0; j < numPoints; j++) {
+      weights[j] = field.mod(weights[j].multiply(positions[j].subtract(fieldPosition)));
+    }
+    return this;
+  }
+
+  public BigInteger reconstructSecret() {
+    return evaluate(BigInteger.ZERO);
+  }
+
+  // p(x) = l(x) * sum_j (w_j * y_j / (x - x_j)), with l(x) = prod_j (x - x_j).
+  public BigInteger evaluate(final BigInteger position) {
+    final var x = field.mod(position);
+    final var inverseDifferences = new BigInteger[numPoints];
+    var product = BigInteger.ONE;
+    for (int j = 0; j < numPoints; j++) {
+      final var difference = field.subtract(x, positions[j]);
+      if (difference.signum() == 0) {
+        return shares[j];
+      }
+      inverseDifferences[j] = difference;
+      product = field.mod(product.multiply(difference));
+    }
+    field.inverse(inverseDifferences, numPoints);
+    var sum = BigInteger.ZERO;
+    for (int j = 0; j < numPoints; j++) {
+      sum = sum.add(field.multiply(weights[j], shares[j]).multiply(inverseDifferences[j]));
+    }
+    return field.multiply(product, field.mod(sum));
+  }
+
+  // Evaluates at every point with one batch inversion across all (x - x_j).
+  public BigInteger[] evaluate(final BigInteger... points) {
+    final int numEvaluations = points.length;
+    final var results = new BigInteger[numEvaluations];
+    final var products = new BigInteger[numEvaluations];
+    final var inverseDifferences = new BigInteger[numEvaluations * numPoints];
+    for (int i = 0, offset = 0; i < numEvaluations; i++, offset += numPoints) {
+      final var x = field.mod(points[i]);
+      var product = BigInteger.ONE;
+      for (int j = 0; j < numPoints; j++) {
+        final var difference = field.subtract(x, positions[j]);
+        if (difference.signum() == 0) {
+          results[i] = shares[j];
+          Arrays.fill(inverseDifferences, offset, offset + numPoints, BigInteger.ONE);
+          break;
+        }
+        inverseDifferences[offset + j] = difference;
+        product = field.mod(product.multiply(difference));
+      }
+      products[i] = product;
+    }
+    field.inverse(inverseDifferences, inverseDifferences.length);
+    final var weightedShares = new BigInteger[numPoints];
+    for (int j = 0; j < numPoints; j++) {
+      weightedShares[j] = field.multiply(weights[j], shares[j]);
+    }
+    for (int i = 0, offset = 0; i < numEvaluations; i++, offset += numPoints) {
+      if (results[i] == null) {
+        var sum = BigInteger.ZERO;
+        for (int j = 0; j < numPoints; j++) {
+          sum = sum.add(weightedShares[j].multiply(inverseDifferences[offset + j]));
+        }
+        results[i] = field.multiply(products[i], field.mod(sum));
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "{\"_class\":\"BarycentricInterpolator\", " +
+        "\"prime\":" + field.prime + ", " +
+        "\"positions\":" + Arrays.toString(getPositions()) + "}";
+  }
+}
@@ -0,0 +1,139 @@
+package systems.comodal.shamir;
+
+import org.apache.commons.numbers.combinatorics.BinomialCoefficient;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+// k-subsets of the indexes [0, n), in lexicographic or revolving-door order, with exact BigInteger counts and ranks
+// for n beyond the long range of BinomialCoefficient, e.g., C(100, 50).
+public final class Combinations {
+
+  private Combinations() {
+  }
+
+  static long count(final int n, final int k) {
+    return BinomialCoefficient.value(n, k);
+  }
+
+  static int[] unrank(long rank, final int n, final int k) {
+    final var combination = new int[k];
+    for (int i = 0, index = 0; i < k; i++, index++) {
+      for (long numWithIndex; (numWithIndex = count(n - index - 1, k - i - 1)) <= rank; index++) {
+        rank -= numWithIndex;
+      }
+      combination[i] = index;
+    }
+    return combination;
+  }
+
+  // Exact C(n, k) beyond the long range of BinomialCoefficient, each partial product C(n - k + i, i) is an integer.
+  public static BigInteger countExact(final int n, final int k) {
+    if (k < 0 || k > n) {
+      return BigInteger.ZERO;
+    }
+    final int r = Math.min(k, n - k);
+    var binomial = BigInteger.ONE;
+    for (int i = 1; i <= r; i++) {
+      binomial = binomial.multiply(BigInteger.valueOf(n - r + i)).divide(BigInteger.valueOf(i));
+    }
+    return binomial;
+  }
+
+  // Walks the same lexicographic ranks as unrank(long, ...), stepping C(m, r) to C(m - 1, r) or C(m - 1, r - 1) in place.
+  public static int[] unrank(BigInteger rank, final int n, final int k) {
+    final var numCombinations = countExact(n, k);
+    if (k < 1 || rank.signum() < 0 || rank.compareTo(numCombinations) >= 0) {
+      throw new IllegalArgumentException(String.format(
+          "Rank (%s) must be in the range [0, %s) for %d choose %d.", rank, numCombinations, n, k));
+    }
+    var binomial = countExact(n - 1, k - 1);
+    final var combination = new int[k];
+    for (int i = 0, index = 0; i < k; i++, index++) {
+      final int r = k - i - 1;
+      while (binomial.compareTo(rank) <= 0) {
+        rank = rank.subtract(binomial);
+        final int m = n - index - 1;
+        binomial = binomial.multiply(BigInteger.valueOf(m - r)).divide(BigInteger.valueOf(m));
+        index++;
+      }
+      combination[i] = index;
+      if (r > 0) {
+        binomial = binomial.multiply(BigInteger.valueOf(r)).divide(BigInteger.valueOf(n - index - 1));
+      }
+    }
+    return combination;
+  }
+
+  // Uniform in [0, bound) by rejection sampling bitLength(bound) random bits.
+  static BigInteger randomRank(final Random random, final BigInteger bound) {
+    final int numBits = bound.bitLength();
+    for (; ; ) {
+      final var rank = new BigInteger(numBits, random);
+      if (rank.compareTo(bound) < 0) {
+        return rank;
+      }
+    }
+  }
+
+  // Advances to the lexicographic successor in place, returns false after the last combination.
+  public static boolean next(final int[] combination, final int n) {
+    final int k = combination.length;
+    int i = k - 1;
+    while (i >= 0 && combination[i] == n - k + i) {
+      i--;
+    }
+    if (i < 0) {
+      return false;
+    }
+    combination[i]++;
+    for (int j = i + 1; j < k; j++) {
+      combination[j] = combination[j - 1] + 1;
+    }
+    return true;
+  }
+
+  // Knuth's Algorithm R (TAOCP 7.2.1.3): advances in place from [0, k) so that consecutive combinations differ by
+  // exactly one removed and one added index, returns false after the last of the C(n, k) combinations.
+  static boolean nextRevolvingDoor(final int[] combination, final int n) {
+    final int k = combination.length;
+    if (k == 0) {
+      return false;
+    }
+    int j;
+    boolean decrease;
+    if ((k & 1) == 1) {
+      if (combination[0] + 1 < (k == 1 ? n : combination[1])) {
+        combination[0]++;
+        return true;
+      }
+      j = 1;
+      decrease = true;
+    } else {
+      if (combination[0] > 0) {
+        combination[0]--;
+        return true;
+      }
+      j = 1;
+      decrease = false;
+    }
+    for (; j < k; j++, decrease = !decrease) {
+      if (decrease) {
+        // combination[j] == combination[j - 1] + 1
+        if (combination[j] > j) {
+          combination[j] = combination[j - 1];
+          combination[j - 1] = j - 1;
+          return true;
+        }
+      } else {
+        // combination[j - 1] == j - 1
+        if (combination[j] + 1 < (j + 1 == k ? n : combination[j + 1])) {
+          combination[j - 1] = combination[j];
+          combination[j]++;
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
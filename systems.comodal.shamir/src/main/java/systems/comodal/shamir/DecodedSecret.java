@@ -0,0 +1,33 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public final class DecodedSecret {
+
+  private final BigInteger secret;
+  private final int[] corruptPositions;
+
+  DecodedSecret(final BigInteger secret, final int[] corruptPositions) {
+    this.secret = secret;
+    this.corruptPositions = corruptPositions;
+  }
+
+  public BigInteger getSecret() {
+    return secret;
+  }
+
+  public int[] getCorruptPositions() {
+    return corruptPositions.clone();
+  }
+
+  public boolean hasCorruptShares() {
+    return corruptPositions.length > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "{\"_class\":\"DecodedSecret\", " +
+        "\"corruptPositions\":" + Arrays.toString(corruptPositions) + "}";
+  }
+}
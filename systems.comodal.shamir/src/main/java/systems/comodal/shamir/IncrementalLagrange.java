@@ -0,0 +1,209 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+// Lagrange basis values at zero for a k-subset of the shares at positions [1, n], each basis value
+// L_i = prod_{j != i} x_j / (x_j - x_i) is updated in O(k) when one share of the subset is swapped for another.
+abstract class IncrementalLagrange {
+
+  final int[] members;
+  private final int[] slots;
+  private final int[] marks;
+  private final int[] added;
+  private int epoch;
+
+  IncrementalLagrange(final int numShares, final int[] combination) {
+    final int k = combination.length;
+    this.members = combination.clone();
+    this.slots = new int[numShares];
+    Arrays.fill(slots, -1);
+    for (int slot = 0; slot < k; slot++) {
+      slots[members[slot]] = slot;
+    }
+    this.marks = new int[numShares];
+    this.added = new int[k];
+  }
+
+  // The allocation free 2^61 - 1 arithmetic of ShamirMersenne61 where it applies, BigInteger otherwise.
+  static IncrementalLagrange create(final BigInteger prime, final BigInteger[] shares, final int[] combination) {
+    return ShamirMersenne61.BIG_PRIME.equals(prime)
+        ? new Mersenne61Lagrange(shares, combination)
+        : new PrimeFieldLagrange(PrimeField.create(prime), shares, combination);
+  }
+
+  // Multiplies out the factor x_a / (x_a - x_i) of the removed share a and multiplies in x_b / (x_b - x_i) of the
+  // added share b for every other member, then computes the basis value of b afresh in the vacated slot.
+  abstract void updateBasis(final int slot, final int a, final int b);
+
+  abstract void computeBasis(final int slot);
+
+  abstract BigInteger secret();
+
+  boolean isSecret(final BigInteger expectedSecret) {
+    return expectedSecret.equals(secret());
+  }
+
+  void swap(final int removedIndex, final int addedIndex) {
+    final int slot = slots[removedIndex];
+    updateBasis(slot, removedIndex + 1, addedIndex + 1);
+    slots[removedIndex] = -1;
+    slots[addedIndex] = slot;
+    members[slot] = addedIndex;
+    computeBasis(slot);
+  }
+
+  // Swaps in each share of the combination missing from the current subset, O(k) per differing share.
+  void moveTo(final int[] combination) {
+    epoch++;
+    int numAdded = 0;
+    for (final int index : combination) {
+      marks[index] = epoch;
+      if (slots[index] < 0) {
+        added[numAdded++] = index;
+      }
+    }
+    for (int slot = 0, next = 0; next < numAdded; slot++) {
+      if (marks[members[slot]] != epoch) {
+        swap(members[slot], added[next++]);
+      }
+    }
+  }
+
+  private static final class PrimeFieldLagrange extends IncrementalLagrange {
+
+    private final PrimeField field;
+    private final BigInteger[] shares;
+    // inverses[d - 1] = 1 / d for d in [1, n], covering every position and every difference of positions.
+    private final BigInteger[] inverses;
+    private final BigInteger[] basis;
+
+    private PrimeFieldLagrange(final PrimeField field, final BigInteger[] shares, final int[] combination) {
+      super(shares.length, combination);
+      this.field = field;
+      final int numShares = shares.length;
+      this.shares = new BigInteger[numShares];
+      this.inverses = new BigInteger[numShares];
+      for (int i = 0; i < numShares; i++) {
+        this.shares[i] = field.mod(shares[i]);
+        inverses[i] = BigInteger.valueOf(i + 1);
+      }
+      field.inverse(inverses, numShares);
+      this.basis = new BigInteger[combination.length];
+      for (int slot = 0; slot < basis.length; slot++) {
+        computeBasis(slot);
+      }
+    }
+
+    // 1 / (to - from) for distinct positions.
+    private BigInteger inverseDifference(final int from, final int to) {
+      return to > from ? inverses[to - from - 1] : field.subtract(BigInteger.ZERO, inverses[from - to - 1]);
+    }
+
+    @Override
+    void computeBasis(final int slot) {
+      final int x = members[slot] + 1;
+      var product = BigInteger.ONE;
+      for (final int member : members) {
+        final int position = member + 1;
+        if (position != x) {
+          product = field.multiply(product, BigInteger.valueOf(position).multiply(inverseDifference(x, position)));
+        }
+      }
+      basis[slot] = product;
+    }
+
+    @Override
+    void updateBasis(final int slot, final int a, final int b) {
+      final var ratio = field.multiply(BigInteger.valueOf(b), inverses[a - 1]);
+      for (int s = 0; s < members.length; s++) {
+        if (s != slot) {
+          final int x = members[s] + 1;
+          final var factor = field.multiply(ratio, BigInteger.valueOf(a - x).multiply(inverseDifference(x, b)));
+          basis[s] = field.multiply(basis[s], factor);
+        }
+      }
+    }
+
+    @Override
+    BigInteger secret() {
+      var sum = BigInteger.ZERO;
+      for (int slot = 0; slot < members.length; slot++) {
+        sum = sum.add(basis[slot].multiply(shares[members[slot]]));
+      }
+      return field.mod(sum);
+    }
+  }
+
+  private static final class Mersenne61Lagrange extends IncrementalLagrange {
+
+    private final long[] shares;
+    private final long[] inverses;
+    private final long[] basis;
+
+    private Mersenne61Lagrange(final BigInteger[] shares, final int[] combination) {
+      super(shares.length, combination);
+      final int numShares = shares.length;
+      this.shares = new long[numShares];
+      this.inverses = new long[numShares];
+      for (int i = 0; i < numShares; i++) {
+        this.shares[i] = ShamirMersenne61.toField(shares[i]);
+        inverses[i] = i + 1;
+      }
+      ShamirMersenne61.inverse(inverses, numShares);
+      this.basis = new long[combination.length];
+      for (int slot = 0; slot < basis.length; slot++) {
+        computeBasis(slot);
+      }
+    }
+
+    private long inverseDifference(final int from, final int to) {
+      return to > from ? inverses[to - from - 1] : ShamirMersenne61.subtract(0, inverses[from - to - 1]);
+    }
+
+    @Override
+    void computeBasis(final int slot) {
+      final int x = members[slot] + 1;
+      long product = 1;
+      for (final int member : members) {
+        final int position = member + 1;
+        if (position != x) {
+          product = ShamirMersenne61.multiply(product, ShamirMersenne61.multiply(position, inverseDifference(x, position)));
+        }
+      }
+      basis[slot] = product;
+    }
+
+    @Override
+    void updateBasis(final int slot, final int a, final int b) {
+      final long ratio = ShamirMersenne61.multiply(b, inverses[a - 1]);
+      for (int s = 0; s < members.length; s++) {
+        if (s != slot) {
+          final int x = members[s] + 1;
+          final long factor = ShamirMersenne61.multiply(ShamirMersenne61.toField(a - x), inverseDifference(x, b));
+          basis[s] = ShamirMersenne61.multiply(basis[s], ShamirMersenne61.multiply(ratio, factor));
+        }
+      }
+    }
+
+    private long longSecret() {
+      long sum = 0;
+      for (int slot = 0; slot < members.length; slot++) {
+        sum = ShamirMersenne61.add(sum, ShamirMersenne61.multiply(basis[slot], shares[members[slot]]));
+      }
+      return sum;
+    }
+
+    @Override
+    BigInteger secret() {
+      return BigInteger.valueOf(longSecret());
+    }
+
+    @Override
+    boolean isSecret(final BigInteger expectedSecret) {
+      return expectedSecret.signum() >= 0
+          && expectedSecret.bitLength() < Long.SIZE
+          && expectedSecret.longValue() == longSecret();
+    }
+  }
+}
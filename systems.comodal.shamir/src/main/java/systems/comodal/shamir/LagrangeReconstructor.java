@@ -0,0 +1,196 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class LagrangeReconstructor {
+
+  static final int MAX_CACHED_RECONSTRUCTORS = 1_024;
+  static final int ROWS_PER_TASK = 1_024;
+
+  private static final Map<List<BigInteger>, LagrangeReconstructor> CACHE = new LruCache<>(MAX_CACHED_RECONSTRUCTORS);
+
+  private final PrimeField field;
+  private final BigInteger[] positions;
+  private final BigInteger[] lagrangeCoefficients;
+
+  private LagrangeReconstructor(final PrimeField field,
+                                final BigInteger[] positions,
+                                final BigInteger[] lagrangeCoefficients) {
+    this.field = field;
+    this.positions = positions;
+    this.lagrangeCoefficients = lagrangeCoefficients;
+  }
+
+  private LagrangeReconstructor(final PrimeField field, final BigInteger[] positions) {
+    this(field, positions, field.lagrangeCoefficients(positions, positions.length));
+  }
+
+  // Shares passed to reconstructSecret(BigInteger...) must follow the order of the given positions.
+  public static LagrangeReconstructor create(final BigInteger prime, final BigInteger... positions) {
+    return new LagrangeReconstructor(PrimeField.create(prime), positions.clone());
+  }
+
+  // Instances are cached by the sorted positions, a caller with another order gets a view with permuted coefficients.
+  public static LagrangeReconstructor cached(final BigInteger prime, final BigInteger... positions) {
+    final var key = new BigInteger[positions.length + 1];
+    key[0] = prime;
+    System.arraycopy(positions, 0, key, 1, positions.length);
+    Arrays.sort(key, 1, key.length);
+    final var cacheKey = List.of(key);
+    LagrangeReconstructor reconstructor;
+    synchronized (CACHE) {
+      reconstructor = CACHE.get(cacheKey);
+    }
+    if (reconstructor == null) {
+      final var created = new LagrangeReconstructor(PrimeField.create(prime), Arrays.copyOfRange(key, 1, key.length));
+      synchronized (CACHE) {
+        final var existing = CACHE.putIfAbsent(cacheKey, created);
+        reconstructor = existing == null ? created : existing;
+      }
+    }
+    return reconstructor.inOrder(positions);
+  }
+
+  private LagrangeReconstructor inOrder(final BigInteger[] order) {
+    if (Arrays.equals(positions, order)) {
+      return this;
+    }
+    final var coefficients = new BigInteger[order.length];
+    for (int i = 0; i < order.length; i++) {
+      coefficients[i] = lagrangeCoefficients[Arrays.binarySearch(positions, order[i])];
+    }
+    return new LagrangeReconstructor(field, order.clone(), coefficients);
+  }
+
+  static int cacheSize() {
+    synchronized (CACHE) {
+      return CACHE.size();
+    }
+  }
+
+  public BigInteger getPrime() {
+    return field.prime;
+  }
+
+  public int getNumPositions() {
+    return positions.length;
+  }
+
+  public BigInteger[] getPositions() {
+    return positions.clone();
+  }
+
+  public BigInteger reconstructSecret(final BigInteger... shares) {
+    if (shares.length != positions.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d shares, one for each position, but was given %d.", positions.length, shares.length));
+    }
+    var freeCoefficient = BigInteger.ZERO;
+    for (int i = 0; i < shares.length; i++) {
+      freeCoefficient = freeCoefficient.add(lagrangeCoefficients[i].multiply(shares[i]));
+    }
+    return field.mod(freeCoefficient);
+  }
+
+  public BigInteger reconstructSecret(final Map<BigInteger, BigInteger> coordinates) {
+    if (coordinates.size() != positions.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d coordinates, one for each position, but was given %d.", positions.length, coordinates.size()));
+    }
+    var freeCoefficient = BigInteger.ZERO;
+    for (int i = 0; i < positions.length; i++) {
+      final var share = coordinates.get(positions[i]);
+      if (share == null) {
+        throw new IllegalArgumentException("Missing share for position " + positions[i]);
+      }
+      freeCoefficient = freeCoefficient.add(lagrangeCoefficients[i].multiply(share));
+    }
+    return field.mod(freeCoefficient);
+  }
+
+  // Each row holds the shares of one secret in position order, every row reuses the same Lagrange vector.
+  public BigInteger[] reconstructSecrets(final BigInteger[][] shares) {
+    final var secrets = new BigInteger[shares.length];
+    reconstructSecrets(shares, secrets, 0, shares.length);
+    return secrets;
+  }
+
+  public BigInteger[] reconstructSecrets(final BigInteger[][] shares, final ForkJoinPool pool) {
+    final var secrets = new BigInteger[shares.length];
+    pool.invoke(new ReconstructTask(shares, secrets, 0, shares.length));
+    return secrets;
+  }
+
+  private void reconstructSecrets(final BigInteger[][] shares, final BigInteger[] secrets, final int from, final int to) {
+    final int numPositions = positions.length;
+    for (int row = from; row < to; row++) {
+      final var rowShares = shares[row];
+      if (rowShares.length != numPositions) {
+        throw new IllegalArgumentException(String.format(
+            "Expected %d shares, one for each position, but row %d has %d.", numPositions, row, rowShares.length));
+      }
+      var freeCoefficient = BigInteger.ZERO;
+      for (int i = 0; i < numPositions; i++) {
+        freeCoefficient = freeCoefficient.add(lagrangeCoefficients[i].multiply(rowShares[i]));
+      }
+      secrets[row] = field.mod(freeCoefficient);
+    }
+  }
+
+  private final class ReconstructTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BigInteger[][] shares;
+    private final BigInteger[] secrets;
+    private final int from;
+    private final int to;
+
+    private ReconstructTask(final BigInteger[][] shares, final BigInteger[] secrets, final int from, final int to) {
+      this.shares = shares;
+      this.secrets = secrets;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= ROWS_PER_TASK) {
+        reconstructSecrets(shares, secrets, from, to);
+        return;
+      }
+      final int mid = (from + to) >>> 1;
+      invokeAll(new ReconstructTask(shares, secrets, from, mid), new ReconstructTask(shares, secrets, mid, to));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "{\"_class\":\"LagrangeReconstructor\", " +
+        "\"prime\":" + field.prime + ", " +
+        "\"positions\":" + Arrays.toString(positions) + "}";
+  }
+
+  private static final class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxEntries;
+
+    private LruCache(final int maxEntries) {
+      super(64, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
@@ -0,0 +1,259 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+abstract class LimbField {
+
+  // Min of three JVM forks against BigInteger Horner and Lagrange, 128 to 521 bit primes: below these sizes converting
+  // into and out of limbs costs more than the limb arithmetic saves.
+  static final int MIN_SHARE_COEFFICIENTS = 16;
+  static final int MIN_RECONSTRUCTION_POINTS = 24;
+
+  final BigInteger prime;
+  final int numLimbs;
+
+  LimbField(final BigInteger prime, final int numLimbs) {
+    this.prime = prime;
+    this.numLimbs = numLimbs;
+  }
+
+  static LimbField create(final BigInteger prime) {
+    if (MersennePrime521.PRIME.equals(prime)) {
+      return new MersennePrime521();
+    }
+    return MontgomeryField.supports(prime) ? new MontgomeryField(prime) : null;
+  }
+
+  abstract void toField(final BigInteger value, final long[] result);
+
+  abstract BigInteger toBigInteger(final long[] value);
+
+  abstract void one(final long[] result);
+
+  abstract void add(final long[] a, final long[] b, final long[] result);
+
+  abstract void subtract(final long[] a, final long[] b, final long[] result);
+
+  abstract void multiply(final long[] a, final long[] b, final long[] result);
+
+  // a * word for a non-negative word, such as a share position, overridden to avoid widening the word to a field element.
+  void multiplyWord(final long[] a, final long word, final long[] result) {
+    final var element = newElement();
+    toField(BigInteger.valueOf(word), element);
+    multiply(a, element, result);
+  }
+
+  // One extended Euclid over BigInteger is far cheaper than a Fermat exponentiation of bitLength full squarings.
+  void inverse(final long[] value, final long[] result) {
+    if (isZero(value)) {
+      throw new ArithmeticException("Zero is not invertible.");
+    }
+    toField(toBigInteger(value).modInverse(prime), result);
+  }
+
+  final long[] newElement() {
+    return new long[numLimbs];
+  }
+
+  BigInteger[] createShares(final BigInteger[] secrets, final int numShares) {
+    final int lastExp = secrets.length - 1;
+    final var coefficients = new long[secrets.length][numLimbs];
+    for (int i = 0; i <= lastExp; i++) {
+      toField(secrets[i], coefficients[i]);
+    }
+    final var result = newElement();
+    final var shares = new BigInteger[numShares];
+    for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
+      final long sharePosition = shareIndex + 1;
+      System.arraycopy(coefficients[lastExp], 0, result, 0, numLimbs);
+      for (int exp = lastExp - 1; exp >= 0; exp--) {
+        multiplyWord(result, sharePosition, result);
+        add(result, coefficients[exp], result);
+      }
+      shares[shareIndex] = toBigInteger(result);
+    }
+    return shares;
+  }
+
+  BigInteger reconstructSecret(final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries) {
+    int numPoints = 0;
+    boolean intPositions = true;
+    for (final var point : coordinateEntries) {
+      numPoints++;
+      intPositions &= point.getKey().bitLength() < Integer.SIZE;
+    }
+    if (intPositions) {
+      final var positions = new int[numPoints];
+      final var shares = new BigInteger[numPoints];
+      int i = 0;
+      for (final var point : coordinateEntries) {
+        positions[i] = point.getKey().intValue();
+        shares[i++] = point.getValue();
+      }
+      return reconstructSecret(positions, shares, numPoints);
+    }
+    final var positions = new long[numPoints][numLimbs];
+    final var shares = new long[numPoints][numLimbs];
+    int i = 0;
+    for (final var point : coordinateEntries) {
+      toField(point.getKey(), positions[i]);
+      toField(point.getValue(), shares[i++]);
+    }
+    return reconstructSecret(positions, shares, numPoints);
+  }
+
+  BigInteger reconstructSecret(final int[] positions, final BigInteger[] shares, final int numPoints) {
+    final var lagrangeCoefficients = lagrangeCoefficients(positions, numPoints);
+    final var share = newElement();
+    final var freeCoefficient = newElement();
+    for (int i = 0; i < numPoints; i++) {
+      toField(shares[i], share);
+      multiply(lagrangeCoefficients[i], share, share);
+      add(freeCoefficient, share, freeCoefficient);
+    }
+    return toBigInteger(freeCoefficient);
+  }
+
+  // a * value for a signed word, negated as 0 - a * |value|.
+  final void multiplySigned(final long[] a, final long value, final long[] result) {
+    multiplyWord(a, Math.abs(value), result);
+    if (value < 0) {
+      subtract(newElement(), result, result);
+    }
+  }
+
+  // Small integer positions keep every difference and position a single word, so only the final products and the
+  // batch inversion need full field multiplications.
+  long[][] lagrangeCoefficients(final int[] positions, final int numPoints) {
+    final var coefficients = new long[numPoints][numLimbs];
+    for (int i = 0; i < numPoints; i++) {
+      final var denominator = coefficients[i];
+      one(denominator);
+      for (int j = 0; j < numPoints; j++) {
+        if (i != j) {
+          multiplySigned(denominator, (long) positions[j] - positions[i], denominator);
+        }
+      }
+    }
+    inverse(coefficients, numPoints);
+    final var product = newElement();
+    one(product);
+    for (int i = 0; i < numPoints; i++) {
+      multiply(coefficients[i], product, coefficients[i]);
+      multiplySigned(product, positions[i], product);
+    }
+    one(product);
+    for (int i = numPoints - 1; i >= 0; i--) {
+      multiply(coefficients[i], product, coefficients[i]);
+      multiplySigned(product, positions[i], product);
+    }
+    return coefficients;
+  }
+
+  void inverse(final long[][] values, final int numValues) {
+    if (numValues == 0) {
+      return;
+    }
+    final var prefixes = new long[numValues][];
+    prefixes[0] = values[0].clone();
+    for (int i = 1; i < numValues; i++) {
+      prefixes[i] = newElement();
+      multiply(prefixes[i - 1], values[i], prefixes[i]);
+    }
+    final var inverse = newElement();
+    inverse(prefixes[numValues - 1], inverse);
+    for (int i = numValues - 1; i > 0; i--) {
+      final var previousPrefix = prefixes[i - 1];
+      multiply(inverse, previousPrefix, previousPrefix);
+      multiply(inverse, values[i], inverse);
+      System.arraycopy(previousPrefix, 0, values[i], 0, numLimbs);
+    }
+    System.arraycopy(inverse, 0, values[0], 0, numLimbs);
+  }
+
+  long[][] lagrangeCoefficients(final long[][] positions, final int numPoints) {
+    final var coefficients = new long[numPoints][numLimbs];
+    final var difference = newElement();
+    for (int i = 0; i < numPoints; i++) {
+      final var denominator = coefficients[i];
+      one(denominator);
+      for (int j = 0; j < numPoints; j++) {
+        if (i != j) {
+          subtract(positions[j], positions[i], difference);
+          multiply(denominator, difference, denominator);
+        }
+      }
+    }
+    inverse(coefficients, numPoints);
+    final var product = newElement();
+    one(product);
+    for (int i = 0; i < numPoints; i++) {
+      multiply(coefficients[i], product, coefficients[i]);
+      multiply(product, positions[i], product);
+    }
+    one(product);
+    for (int i = numPoints - 1; i >= 0; i--) {
+      multiply(coefficients[i], product, coefficients[i]);
+      multiply(product, positions[i], product);
+    }
+    return coefficients;
+  }
+
+  BigInteger reconstructSecret(final long[][] positions, final long[][] shares, final int numPoints) {
+    final var lagrangeCoefficients = lagrangeCoefficients(positions, numPoints);
+    final var freeCoefficient = newElement();
+    final var term = newElement();
+    for (int i = 0; i < numPoints; i++) {
+      multiply(lagrangeCoefficients[i], shares[i], term);
+      add(freeCoefficient, term, freeCoefficient);
+    }
+    return toBigInteger(freeCoefficient);
+  }
+
+  static boolean isZero(final long[] value) {
+    for (final long limb : value) {
+      if (limb != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Carry out of the unsigned addition a + b == sum, computed without branching on random data.
+  static long carry(final long a, final long b, final long sum) {
+    return ((a & b) | ((a | b) & ~sum)) >>> 63;
+  }
+
+  static long unsignedMultiplyHigh(final long a, final long b) {
+    return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+  }
+
+  static void toLimbs(final BigInteger value, final long[] result) {
+    final var bytes = value.toByteArray();
+    int limb = 0;
+    int shift = 0;
+    result[0] = 0;
+    for (int i = bytes.length - 1; i >= 0 && limb < result.length; i--) {
+      result[limb] |= (bytes[i] & 0xFFL) << shift;
+      shift += Byte.SIZE;
+      if (shift == Long.SIZE && ++limb < result.length) {
+        shift = 0;
+        result[limb] = 0;
+      }
+    }
+    for (int i = limb + 1; i < result.length; i++) {
+      result[i] = 0;
+    }
+  }
+
+  static BigInteger fromLimbs(final long[] value) {
+    final var bytes = new byte[value.length * Long.BYTES];
+    for (int limb = 0, i = bytes.length - 1; limb < value.length; limb++) {
+      for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+        bytes[i--] = (byte) (value[limb] >>> shift);
+      }
+    }
+    return new BigInteger(1, bytes);
+  }
+}
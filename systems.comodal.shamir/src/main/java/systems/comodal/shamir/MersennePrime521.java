@@ -0,0 +1,149 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+final class MersennePrime521 extends LimbField {
+
+  static final int EXPONENT = 521;
+  static final BigInteger PRIME = Shamir.createMersennePrimeFromExponent(EXPONENT);
+
+  private static final int NUM_LIMBS = 9;
+  private static final int TOP_BITS = EXPONENT - (NUM_LIMBS - 1) * Long.SIZE;
+  private static final long TOP_MASK = (1L << TOP_BITS) - 1;
+
+  private final long[] product = new long[NUM_LIMBS << 1];
+
+  MersennePrime521() {
+    super(PRIME, NUM_LIMBS);
+  }
+
+  @Override
+  void toField(final BigInteger value, final long[] result) {
+    toLimbs(value.signum() < 0 || value.bitLength() > EXPONENT ? value.mod(PRIME) : value, result);
+    if (isPrime(result)) {
+      Arrays.fill(result, 0);
+    }
+  }
+
+  @Override
+  BigInteger toBigInteger(final long[] value) {
+    return fromLimbs(value);
+  }
+
+  @Override
+  void one(final long[] result) {
+    result[0] = 1;
+    for (int i = 1; i < NUM_LIMBS; i++) {
+      result[i] = 0;
+    }
+  }
+
+  @Override
+  void add(final long[] a, final long[] b, final long[] result) {
+    long carry = 0;
+    for (int i = 0; i < NUM_LIMBS; i++) {
+      final long ai = a[i];
+      final long bi = b[i];
+      final long partial = ai + bi;
+      final long sum = partial + carry;
+      carry = carry(ai, bi, partial) | carry(partial, carry, sum);
+      result[i] = sum;
+    }
+    fold(result);
+  }
+
+  // a - b = a + (p - b), and p - b is the 521 bit complement of b.
+  @Override
+  void subtract(final long[] a, final long[] b, final long[] result) {
+    long carry = 0;
+    for (int i = 0; i < NUM_LIMBS; i++) {
+      final long ai = a[i];
+      final long complement = i == NUM_LIMBS - 1 ? ~b[i] & TOP_MASK : ~b[i];
+      final long partial = ai + complement;
+      final long sum = partial + carry;
+      carry = carry(ai, complement, partial) | carry(partial, carry, sum);
+      result[i] = sum;
+    }
+    fold(result);
+  }
+
+  @Override
+  void multiply(final long[] a, final long[] b, final long[] result) {
+    Arrays.fill(product, 0);
+    for (int i = 0; i < NUM_LIMBS; i++) {
+      final long ai = a[i];
+      long carry = 0;
+      for (int j = 0, k = i; j < NUM_LIMBS; j++, k++) {
+        final long bj = b[j];
+        final long low = ai * bj;
+        final long accumulated = low + product[k];
+        final long sum = accumulated + carry;
+        carry = unsignedMultiplyHigh(ai, bj) + carry(low, product[k], accumulated) + carry(accumulated, carry, sum);
+        product[k] = sum;
+      }
+      product[i + NUM_LIMBS] = carry;
+    }
+    // p = 2^521 - 1, so (high * 2^521 + low) mod p == (high + low) mod p.
+    final int shift = TOP_BITS;
+    long carry = 0;
+    for (int i = 0, h = NUM_LIMBS - 1; i < NUM_LIMBS; i++, h++) {
+      final long low = i == NUM_LIMBS - 1 ? product[i] & TOP_MASK : product[i];
+      final long high = (product[h] >>> shift) | (product[h + 1] << (Long.SIZE - shift));
+      final long partial = low + high;
+      final long sum = partial + carry;
+      carry = carry(low, high, partial) | carry(partial, carry, sum);
+      result[i] = sum;
+    }
+    fold(result);
+  }
+
+  @Override
+  void multiplyWord(final long[] a, final long word, final long[] result) {
+    long carry = 0;
+    for (int i = 0; i < NUM_LIMBS; i++) {
+      final long ai = a[i];
+      final long low = ai * word;
+      final long sum = low + carry;
+      carry = unsignedMultiplyHigh(ai, word) + carry(low, carry, sum);
+      result[i] = sum;
+    }
+    // Bits at or above 2^521 wrap around onto the two low limbs.
+    final long high = (result[NUM_LIMBS - 1] >>> TOP_BITS) | (carry << (Long.SIZE - TOP_BITS));
+    final long higher = carry >>> TOP_BITS;
+    result[NUM_LIMBS - 1] &= TOP_MASK;
+    carry = 0;
+    for (int i = 0; i < NUM_LIMBS; i++) {
+      final long ri = result[i];
+      final long addend = i == 0 ? high : i == 1 ? higher : 0;
+      final long partial = ri + addend;
+      final long sum = partial + carry;
+      carry = carry(ri, addend, partial) | carry(partial, carry, sum);
+      result[i] = sum;
+    }
+    fold(result);
+  }
+
+  // Folds any bits at or above 2^521 back onto the low bits and maps p to zero.
+  private static void fold(final long[] value) {
+    long carry = value[NUM_LIMBS - 1] >>> TOP_BITS;
+    value[NUM_LIMBS - 1] &= TOP_MASK;
+    for (int i = 0; carry != 0 && i < NUM_LIMBS; i++) {
+      final long sum = value[i] + carry;
+      carry = Long.compareUnsigned(sum, value[i]) < 0 ? 1 : 0;
+      value[i] = sum;
+    }
+    if (isPrime(value)) {
+      Arrays.fill(value, 0);
+    }
+  }
+
+  private static boolean isPrime(final long[] value) {
+    for (int i = 0; i < NUM_LIMBS - 1; i++) {
+      if (value[i] != -1L) {
+        return false;
+      }
+    }
+    return value[NUM_LIMBS - 1] == TOP_MASK;
+  }
+}
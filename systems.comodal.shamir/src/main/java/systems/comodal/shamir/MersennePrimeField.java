@@ -0,0 +1,31 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+
+final class MersennePrimeField extends PrimeField {
+
+  private final int exponent;
+
+  MersennePrimeField(final BigInteger prime) {
+    super(prime);
+    this.exponent = prime.bitLength();
+  }
+
+  static boolean isMersenneNumber(final BigInteger prime) {
+    return prime.signum() > 0 && prime.bitCount() == prime.bitLength();
+  }
+
+  // p = 2^e - 1, so (high * 2^e + low) mod p == (high + low) mod p.
+  @Override
+  BigInteger mod(final BigInteger value) {
+    if (value.signum() < 0) {
+      final var reduced = mod(value.negate());
+      return reduced.signum() == 0 ? reduced : prime.subtract(reduced);
+    }
+    var reduced = value;
+    while (reduced.bitLength() > exponent) {
+      reduced = reduced.and(prime).add(reduced.shiftRight(exponent));
+    }
+    return reduced.equals(prime) ? BigInteger.ZERO : reduced;
+  }
+}
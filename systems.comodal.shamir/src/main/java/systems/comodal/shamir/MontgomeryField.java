@@ -0,0 +1,213 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+
+final class MontgomeryField extends LimbField {
+
+  private final long[] modulus;
+  private final long modulusInverse;
+  private final long[] rModP;
+  private final long[] r2ModP;
+  private final long[] product;
+  private final long[] unit;
+  private final double modulusTop;
+
+  MontgomeryField(final BigInteger prime) {
+    super(prime, (prime.bitLength() + Long.SIZE - 1) / Long.SIZE);
+    this.modulus = newElement();
+    toLimbs(prime, modulus);
+    this.modulusInverse = -inverseModWord(modulus[0]);
+    final var r = BigInteger.ONE.shiftLeft(numLimbs * Long.SIZE);
+    this.rModP = newElement();
+    toLimbs(r.mod(prime), rModP);
+    this.r2ModP = newElement();
+    toLimbs(r.multiply(r).mod(prime), r2ModP);
+    this.product = new long[numLimbs + 2];
+    this.unit = newElement();
+    unit[0] = 1;
+    this.modulusTop = Math.scalb(prime.doubleValue(), -(numLimbs - 1) * Long.SIZE);
+  }
+
+  static boolean supports(final BigInteger prime) {
+    return prime.testBit(0) && prime.bitLength() > 2 && !MersennePrimeField.isMersenneNumber(prime);
+  }
+
+  // Newton iteration doubles the number of correct low bits each round: 1 -> 2 -> ... -> 64.
+  private static long inverseModWord(final long value) {
+    long inverse = value;
+    for (int i = 0; i < 5; i++) {
+      inverse *= 2 - value * inverse;
+    }
+    return inverse;
+  }
+
+  @Override
+  void toField(final BigInteger value, final long[] result) {
+    toLimbs(value.signum() < 0 || value.compareTo(prime) >= 0 ? value.mod(prime) : value, result);
+    multiply(result, r2ModP, result);
+  }
+
+  @Override
+  BigInteger toBigInteger(final long[] value) {
+    final var result = newElement();
+    multiply(value, unit, result);
+    return fromLimbs(result);
+  }
+
+  @Override
+  void one(final long[] result) {
+    System.arraycopy(rModP, 0, result, 0, numLimbs);
+  }
+
+  @Override
+  void add(final long[] a, final long[] b, final long[] result) {
+    long carry = 0;
+    for (int i = 0; i < numLimbs; i++) {
+      final long ai = a[i];
+      final long bi = b[i];
+      final long partial = ai + bi;
+      final long sum = partial + carry;
+      carry = carry(ai, bi, partial) | carry(partial, carry, sum);
+      result[i] = sum;
+    }
+    if (carry != 0 || !lessThanModulus(result)) {
+      subtractModulus(result);
+    }
+  }
+
+  @Override
+  void subtract(final long[] a, final long[] b, final long[] result) {
+    long borrow = 0;
+    for (int i = 0; i < numLimbs; i++) {
+      final long ai = a[i];
+      final long bi = b[i];
+      final long partial = ai - bi;
+      final long difference = partial - borrow;
+      borrow = borrow(ai, bi, partial) | borrow(partial, borrow, difference);
+      result[i] = difference;
+    }
+    if (borrow != 0) {
+      long carry = 0;
+      for (int i = 0; i < numLimbs; i++) {
+        final long ri = result[i];
+        final long mi = modulus[i];
+        final long partial = ri + mi;
+        final long sum = partial + carry;
+        carry = carry(ri, mi, partial) | carry(partial, carry, sum);
+        result[i] = sum;
+      }
+    }
+  }
+
+  // Coarsely integrated operand scanning (CIOS) Montgomery multiplication: a * b * R^-1 mod p.
+  @Override
+  void multiply(final long[] a, final long[] b, final long[] result) {
+    final int n = numLimbs;
+    final var t = product;
+    for (int i = 0; i <= n + 1; i++) {
+      t[i] = 0;
+    }
+    for (int i = 0; i < n; i++) {
+      final long bi = b[i];
+      long carry = 0;
+      for (int j = 0; j < n; j++) {
+        final long aj = a[j];
+        final long low = aj * bi;
+        final long accumulated = low + t[j];
+        final long sum = accumulated + carry;
+        carry = unsignedMultiplyHigh(aj, bi) + carry(low, t[j], accumulated) + carry(accumulated, carry, sum);
+        t[j] = sum;
+      }
+      long sum = t[n] + carry;
+      t[n + 1] = carry(t[n], carry, sum);
+      t[n] = sum;
+
+      final long m = t[0] * modulusInverse;
+      long low = m * modulus[0];
+      sum = t[0] + low;
+      carry = unsignedMultiplyHigh(m, modulus[0]) + carry(t[0], low, sum);
+      for (int j = 1; j < n; j++) {
+        final long mj = modulus[j];
+        low = m * mj;
+        final long accumulated = low + t[j];
+        sum = accumulated + carry;
+        carry = unsignedMultiplyHigh(m, mj) + carry(low, t[j], accumulated) + carry(accumulated, carry, sum);
+        t[j - 1] = sum;
+      }
+      sum = t[n] + carry;
+      t[n - 1] = sum;
+      t[n] = t[n + 1] + carry(t[n], carry, sum);
+    }
+    System.arraycopy(t, 0, result, 0, n);
+    if (t[n] != 0 || !lessThanModulus(result)) {
+      subtractModulus(result);
+    }
+  }
+
+  // Montgomery form is linear, so aR * word == (a * word)R and a plain n x 1 limb product suffices. As a < p the
+  // quotient by p is below the word, estimated from the top two limbs to within a few and corrected by subtraction.
+  @Override
+  void multiplyWord(final long[] a, final long word, final long[] result) {
+    final int n = numLimbs;
+    final var t = product;
+    long carry = 0;
+    for (int i = 0; i < n; i++) {
+      final long ai = a[i];
+      final long low = ai * word;
+      final long sum = low + carry;
+      carry = unsignedMultiplyHigh(ai, word) + carry(low, carry, sum);
+      t[i] = sum;
+    }
+    final double top = Math.scalb((double) carry, Long.SIZE) + unsignedToDouble(t[n - 1]);
+    final long quotient = Math.max(0, (long) (top / modulusTop) - 1);
+    long productCarry = 0;
+    long borrow = 0;
+    for (int i = 0; i < n; i++) {
+      final long mi = modulus[i];
+      final long low = quotient * mi;
+      final long qm = low + productCarry;
+      productCarry = unsignedMultiplyHigh(quotient, mi) + carry(low, productCarry, qm);
+      final long ti = t[i];
+      final long partial = ti - qm;
+      final long difference = partial - borrow;
+      borrow = borrow(ti, qm, partial) | borrow(partial, borrow, difference);
+      result[i] = difference;
+    }
+    long remainderTop = carry - productCarry - borrow;
+    while (remainderTop != 0 || !lessThanModulus(result)) {
+      remainderTop -= subtractModulus(result);
+    }
+  }
+
+  private static double unsignedToDouble(final long value) {
+    return value >= 0 ? value : Math.scalb((double) (value >>> 1), 1);
+  }
+
+  private boolean lessThanModulus(final long[] value) {
+    for (int i = numLimbs - 1; i >= 0; i--) {
+      final int comparison = Long.compareUnsigned(value[i], modulus[i]);
+      if (comparison != 0) {
+        return comparison < 0;
+      }
+    }
+    return false;
+  }
+
+  private long subtractModulus(final long[] value) {
+    long borrow = 0;
+    for (int i = 0; i < numLimbs; i++) {
+      final long vi = value[i];
+      final long mi = modulus[i];
+      final long partial = vi - mi;
+      final long difference = partial - borrow;
+      borrow = borrow(vi, mi, partial) | borrow(partial, borrow, difference);
+      value[i] = difference;
+    }
+    return borrow;
+  }
+
+  // Borrow out of the unsigned subtraction a - b == difference.
+  private static long borrow(final long a, final long b, final long difference) {
+    return ((~a & b) | ((~a | b) & difference)) >>> 63;
+  }
+}
@@ -0,0 +1,214 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+
+final class MultipointEvaluator {
+
+  // Subtrees with at most this many points evaluate their remainder directly with Horner's rule.
+  static final int LEAF_SIZE = 64;
+  // Below this operand length schoolbook multiplication beats packing into a single BigInteger.
+  static final int KRONECKER_THRESHOLD = 24;
+  static final int MIN_COEFFICIENTS = 2_048;
+
+  private final PrimeField field;
+
+  MultipointEvaluator(final PrimeField field) {
+    this.field = field;
+  }
+
+  // Horner steps only multiply by a small position, so the tree's O((n / k) M(k) log k) only pays off for
+  // high degree polynomials, and later the wider the prime.
+  static boolean isFasterThanHorner(final BigInteger prime, final int numCoefficients) {
+    return numCoefficients >= Math.max(MIN_COEFFICIENTS, 16 * prime.bitLength());
+  }
+
+  BigInteger[] createShares(final BigInteger[] secrets, final int numShares) {
+    final var coefficients = new BigInteger[secrets.length];
+    for (int i = 0; i < coefficients.length; i++) {
+      coefficients[i] = field.mod(secrets[i]);
+    }
+    final var shares = new BigInteger[numShares];
+    // Blocks of at least k points leave the polynomial untouched at their root, so no tree is built above them.
+    final int blockSize = Math.max(LEAF_SIZE, Integer.highestOneBit(Math.max(1, coefficients.length - 1)) << 1);
+    for (int from = 1; from <= numShares; from += blockSize) {
+      evaluate(buildTree(from, Math.min(numShares + 1, from + blockSize)), coefficients, shares);
+    }
+    return shares;
+  }
+
+  private static final class Node {
+
+    private final int from;
+    private final int to;
+    private final BigInteger[] polynomial;
+    private final Node left;
+    private final Node right;
+    private BigInteger[] reversedInverse;
+
+    private Node(final int from, final int to, final BigInteger[] polynomial, final Node left, final Node right) {
+      this.from = from;
+      this.to = to;
+      this.polynomial = polynomial;
+      this.left = left;
+      this.right = right;
+    }
+  }
+
+  // prod (X - x) for x in [from, to)
+  private Node buildTree(final int from, final int to) {
+    if (to - from <= LEAF_SIZE) {
+      final var polynomial = new BigInteger[to - from + 1];
+      polynomial[0] = BigInteger.ONE;
+      for (int x = from, degree = 0; x < to; x++, degree++) {
+        final var position = BigInteger.valueOf(x);
+        polynomial[degree + 1] = polynomial[degree];
+        for (int i = degree; i > 0; i--) {
+          polynomial[i] = field.mod(polynomial[i - 1].subtract(polynomial[i].multiply(position)));
+        }
+        polynomial[0] = field.mod(polynomial[0].multiply(position).negate());
+      }
+      return new Node(from, to, polynomial, null, null);
+    }
+    final int mid = (from + to) >>> 1;
+    final var left = buildTree(from, mid);
+    final var right = buildTree(mid, to);
+    return new Node(from, to, multiply(left.polynomial, right.polynomial), left, right);
+  }
+
+  private void evaluate(final Node node, final BigInteger[] polynomial, final BigInteger[] shares) {
+    final var remainder = remainder(polynomial, node);
+    if (node.left == null) {
+      for (int x = node.from; x < node.to; x++) {
+        shares[x - 1] = horner(remainder, BigInteger.valueOf(x));
+      }
+    } else {
+      evaluate(node.left, remainder, shares);
+      evaluate(node.right, remainder, shares);
+    }
+  }
+
+  private BigInteger horner(final BigInteger[] polynomial, final BigInteger x) {
+    if (polynomial.length == 0) {
+      return BigInteger.ZERO;
+    }
+    var result = polynomial[polynomial.length - 1];
+    for (int i = polynomial.length - 2; i >= 0; i--) {
+      result = field.mod(result.multiply(x).add(polynomial[i]));
+    }
+    return result;
+  }
+
+  // f mod M via a Newton inverse of the reversed, monic divisor M.
+  private BigInteger[] remainder(final BigInteger[] polynomial, final Node node) {
+    final var divisor = node.polynomial;
+    final int degree = divisor.length - 1;
+    final int quotientLength = polynomial.length - degree;
+    if (quotientLength <= 0) {
+      return polynomial;
+    }
+    final var reversedInverse = reversedInverse(node, quotientLength);
+    final var reversedPolynomial = new BigInteger[quotientLength];
+    for (int i = 0; i < quotientLength; i++) {
+      reversedPolynomial[i] = polynomial[polynomial.length - 1 - i];
+    }
+    final var reversedQuotient = truncate(multiply(reversedPolynomial, truncate(reversedInverse, quotientLength)), quotientLength);
+    final var quotient = new BigInteger[quotientLength];
+    for (int i = 0; i < quotientLength; i++) {
+      quotient[i] = i < reversedQuotient.length ? reversedQuotient[quotientLength - 1 - i] : BigInteger.ZERO;
+    }
+    final var product = multiply(quotient, truncate(divisor, degree));
+    final var remainder = new BigInteger[degree];
+    for (int i = 0; i < degree; i++) {
+      remainder[i] = i < product.length
+          ? field.subtract(polynomial[i], product[i])
+          : polynomial[i];
+    }
+    return remainder;
+  }
+
+  private BigInteger[] reversedInverse(final Node node, final int precision) {
+    var inverse = node.reversedInverse;
+    if (inverse != null && inverse.length >= precision) {
+      return inverse;
+    }
+    final var divisor = node.polynomial;
+    final var reversed = new BigInteger[divisor.length];
+    for (int i = 0; i < divisor.length; i++) {
+      reversed[i] = divisor[divisor.length - 1 - i];
+    }
+    if (inverse == null) {
+      inverse = new BigInteger[]{BigInteger.ONE};
+    }
+    final var two = BigInteger.TWO;
+    for (int currentPrecision = inverse.length; currentPrecision < precision; ) {
+      currentPrecision = Math.min(currentPrecision << 1, precision);
+      // h = h * (2 - g * h) mod X^precision
+      final var correction = truncate(multiply(truncate(reversed, currentPrecision), inverse), currentPrecision);
+      for (int i = 0; i < correction.length; i++) {
+        correction[i] = field.subtract(BigInteger.ZERO, correction[i]);
+      }
+      correction[0] = field.add(correction[0], two.mod(field.prime));
+      inverse = truncate(multiply(inverse, correction), currentPrecision);
+    }
+    node.reversedInverse = inverse;
+    return inverse;
+  }
+
+  private static BigInteger[] truncate(final BigInteger[] polynomial, final int length) {
+    if (polynomial.length <= length) {
+      return polynomial;
+    }
+    final var truncated = new BigInteger[length];
+    System.arraycopy(polynomial, 0, truncated, 0, length);
+    return truncated;
+  }
+
+  BigInteger[] multiply(final BigInteger[] a, final BigInteger[] b) {
+    if (a.length == 0 || b.length == 0) {
+      return new BigInteger[0];
+    }
+    return Math.min(a.length, b.length) < KRONECKER_THRESHOLD
+        ? schoolbookMultiply(a, b)
+        : kroneckerMultiply(a, b);
+  }
+
+  private BigInteger[] schoolbookMultiply(final BigInteger[] a, final BigInteger[] b) {
+    final var product = new BigInteger[a.length + b.length - 1];
+    for (int k = 0; k < product.length; k++) {
+      var sum = BigInteger.ZERO;
+      for (int i = Math.max(0, k - b.length + 1), last = Math.min(k, a.length - 1); i <= last; i++) {
+        sum = sum.add(a[i].multiply(b[k - i]));
+      }
+      product[k] = field.mod(sum);
+    }
+    return product;
+  }
+
+  // Packs each polynomial into one integer with byte aligned slots wide enough for any product coefficient.
+  private BigInteger[] kroneckerMultiply(final BigInteger[] a, final BigInteger[] b) {
+    final int slotBits = 2 * field.prime.bitLength() + Integer.SIZE - Integer.numberOfLeadingZeros(Math.min(a.length, b.length)) + 1;
+    final int slotBytes = (slotBits + Byte.SIZE - 1) / Byte.SIZE;
+    final var product = pack(a, slotBytes).multiply(pack(b, slotBytes)).toByteArray();
+    final var result = new BigInteger[a.length + b.length - 1];
+    for (int i = 0; i < result.length; i++) {
+      final int end = product.length - i * slotBytes;
+      if (end <= 0) {
+        result[i] = BigInteger.ZERO;
+      } else {
+        final int start = Math.max(0, end - slotBytes);
+        result[i] = field.mod(new BigInteger(1, product, start, end - start));
+      }
+    }
+    return result;
+  }
+
+  private static BigInteger pack(final BigInteger[] polynomial, final int slotBytes) {
+    final var packed = new byte[polynomial.length * slotBytes];
+    for (int i = 0; i < polynomial.length; i++) {
+      final var coefficient = polynomial[i].toByteArray();
+      final int length = Math.min(coefficient.length, slotBytes);
+      System.arraycopy(coefficient, coefficient.length - length, packed, packed.length - i * slotBytes - length, length);
+    }
+    return new BigInteger(1, packed);
+  }
+}
@@ -0,0 +1,44 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+
+public enum NttPrime {
+
+  // 119 * 2^23 + 1
+  P_998244353(new BigInteger("998244353"), 23, 3),
+  // 2^64 - 2^32 + 1
+  GOLDILOCKS(new BigInteger("18446744069414584321"), 32, 7),
+  BN254_SCALAR(new BigInteger("21888242871839275222246405745257275088548364400416034343698204186575808495617"), 28, 5),
+  BLS12_381_SCALAR(new BigInteger("73eda753299d7d483339d80809a1d80553bda402fffe5bfeffffffff00000001", 16), 32, 7);
+
+  private final BigInteger prime;
+  private final int twoAdicity;
+  private final BigInteger nonResidue;
+
+  NttPrime(final BigInteger prime, final int twoAdicity, final int nonResidue) {
+    this.prime = prime;
+    this.twoAdicity = twoAdicity;
+    this.nonResidue = BigInteger.valueOf(nonResidue);
+  }
+
+  public BigInteger getPrime() {
+    return prime;
+  }
+
+  public int getTwoAdicity() {
+    return twoAdicity;
+  }
+
+  public int getMaxShares() {
+    return 1 << Math.min(twoAdicity, 30);
+  }
+
+  // g^((p - 1) / 2^m) has order exactly 2^m because g is a quadratic non-residue.
+  public BigInteger rootOfUnity(final int log2Order) {
+    if (log2Order < 0 || log2Order > twoAdicity) {
+      throw new IllegalArgumentException(String.format(
+          "Root of unity order 2^%d must be in the range [2^0, 2^%d].", log2Order, twoAdicity));
+    }
+    return nonResidue.modPow(prime.subtract(BigInteger.ONE).shiftRight(log2Order), prime);
+  }
+}
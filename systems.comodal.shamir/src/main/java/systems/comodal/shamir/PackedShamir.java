@@ -0,0 +1,62 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+// Franklin-Yung packed sharing: secret i sits at x = -i, the share polynomial is fixed by requiredShares points.
+public final class PackedShamir {
+
+  private PackedShamir() {
+  }
+
+  // Any (requiredShares - secrets.length) shares reveal nothing about the secrets, any requiredShares recover all of them.
+  public static BigInteger[] createShares(final Random secureRandom,
+                                          final BigInteger prime,
+                                          final BigInteger[] secrets,
+                                          final int requiredShares,
+                                          final int numShares) {
+    return Shamir.createShares(prime, createCoefficients(secureRandom, prime, secrets, requiredShares, numShares), numShares);
+  }
+
+  public static BigInteger[] createCoefficients(final Random secureRandom,
+                                                final BigInteger prime,
+                                                final BigInteger[] secrets,
+                                                final int requiredShares,
+                                                final int numShares) {
+    final int numSecrets = secrets.length;
+    if (numSecrets < 1 || requiredShares <= numSecrets || requiredShares > numShares) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be greater than the number of secrets (%d) and at most num shares (%d).",
+          requiredShares, numSecrets, numShares));
+    }
+    if (prime.compareTo(BigInteger.valueOf((long) numShares + requiredShares)) <= 0) {
+      throw new IllegalArgumentException(String.format(
+          "Prime %s must exceed num shares plus required shares, %d.", prime, (long) numShares + requiredShares));
+    }
+    final var positions = new int[requiredShares];
+    final var values = new BigInteger[requiredShares];
+    for (int i = 0; i < requiredShares; i++) {
+      positions[i] = -i;
+      values[i] = i < numSecrets ? secrets[i] : Shamir.createSecret(secureRandom, prime);
+    }
+    return Shamir.interpolateCoefficients(positions, values, prime);
+  }
+
+  // Evaluates the polynomial through the shares at each secret position with a single batch inversion.
+  public static BigInteger[] reconstructSecrets(final int[] positions,
+                                                final BigInteger[] shares,
+                                                final int numSecrets,
+                                                final BigInteger prime) {
+    if (positions.length == 0 || positions.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected a non-empty set of shares, one for each position, but was given %d positions and %d shares.",
+          positions.length, shares.length));
+    }
+    final var secretPositions = new BigInteger[numSecrets];
+    for (int i = 0; i < numSecrets; i++) {
+      secretPositions[i] = BigInteger.valueOf(-i);
+    }
+    return BarycentricInterpolator.create(PrimeField.create(prime), positions, shares, positions.length)
+        .evaluate(secretPositions);
+  }
+}
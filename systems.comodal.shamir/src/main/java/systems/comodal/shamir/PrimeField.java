@@ -0,0 +1,85 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+
+class PrimeField {
+
+  final BigInteger prime;
+
+  PrimeField(final BigInteger prime) {
+    this.prime = prime;
+  }
+
+  static PrimeField create(final BigInteger prime) {
+    return MersennePrimeField.isMersenneNumber(prime)
+        ? new MersennePrimeField(prime)
+        : new PrimeField(prime);
+  }
+
+  BigInteger mod(final BigInteger value) {
+    return value.mod(prime);
+  }
+
+  BigInteger multiply(final BigInteger a, final BigInteger b) {
+    return mod(a.multiply(b));
+  }
+
+  BigInteger add(final BigInteger a, final BigInteger b) {
+    final var sum = a.add(b);
+    return sum.compareTo(prime) >= 0 ? sum.subtract(prime) : sum;
+  }
+
+  BigInteger subtract(final BigInteger a, final BigInteger b) {
+    final var difference = a.subtract(b);
+    return difference.signum() < 0 ? difference.add(prime) : difference;
+  }
+
+  BigInteger inverse(final BigInteger value) {
+    return value.modInverse(prime);
+  }
+
+  // Montgomery's simultaneous inversion: one modular inverse plus 3(n - 1) multiplications.
+  void inverse(final BigInteger[] values, final int numValues) {
+    if (numValues == 0) {
+      return;
+    }
+    final var prefixes = new BigInteger[numValues];
+    prefixes[0] = values[0];
+    for (int i = 1; i < numValues; i++) {
+      prefixes[i] = multiply(prefixes[i - 1], values[i]);
+    }
+    var inverse = inverse(prefixes[numValues - 1]);
+    for (int i = numValues - 1; i > 0; i--) {
+      final var value = values[i];
+      values[i] = multiply(inverse, prefixes[i - 1]);
+      inverse = multiply(inverse, value);
+    }
+    values[0] = inverse;
+  }
+
+  BigInteger[] lagrangeCoefficients(final BigInteger[] positions, final int numPoints) {
+    final var coefficients = new BigInteger[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      var denominator = BigInteger.ONE;
+      final var referencePosition = positions[i];
+      for (int j = 0; j < numPoints; j++) {
+        if (i != j) {
+          denominator = mod(denominator.multiply(positions[j].subtract(referencePosition)));
+        }
+      }
+      coefficients[i] = denominator;
+    }
+    inverse(coefficients, numPoints);
+    var prefix = BigInteger.ONE;
+    for (int i = 0; i < numPoints; i++) {
+      coefficients[i] = multiply(coefficients[i], prefix);
+      prefix = mod(prefix.multiply(positions[i]));
+    }
+    var suffix = BigInteger.ONE;
+    for (int i = numPoints - 1; i >= 0; i--) {
+      coefficients[i] = multiply(coefficients[i], suffix);
+      suffix = mod(suffix.multiply(positions[i]));
+    }
+    return coefficients;
+  }
+}
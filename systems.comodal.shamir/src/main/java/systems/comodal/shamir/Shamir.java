@@ -3,10 +3,13 @@ package systems.comodal.shamir;
 import org.apache.commons.numbers.combinatorics.BinomialCoefficient;
 
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
 public final class Shamir {
 
@@ -60,14 +63,24 @@ public final class Shamir {
   public static BigInteger[] createShares(final BigInteger prime,
                                           final BigInteger[] secrets,
                                           final int numShares) {
+    if (ShamirMersenne61.BIG_PRIME.equals(prime)) {
+      return ShamirMersenne61.createShares(secrets, numShares);
+    }
+    if (MultipointEvaluator.isFasterThanHorner(prime, secrets.length)) {
+      return new MultipointEvaluator(PrimeField.create(prime)).createShares(secrets, numShares);
+    }
+    final var limbField = secrets.length < LimbField.MIN_SHARE_COEFFICIENTS ? null : LimbField.create(prime);
+    if (limbField != null) {
+      return limbField.createShares(secrets, numShares);
+    }
+    final var field = PrimeField.create(prime);
+    final int lastExp = secrets.length - 1;
     final var shares = new BigInteger[numShares];
     for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
-      var result = secrets[0];
       final var sharePosition = BigInteger.valueOf(shareIndex + 1);
-      for (int exp = 1; exp < secrets.length; exp++) {
-        result = result.add(secrets[exp]
-            .multiply(sharePosition.pow(exp).mod(prime)))
-            .mod(prime);
+      var result = field.mod(secrets[lastExp]);
+      for (int exp = lastExp - 1; exp >= 0; exp--) {
+        result = field.mod(result.multiply(sharePosition).add(secrets[exp]));
       }
       shares[shareIndex] = result;
     }
@@ -81,117 +94,434 @@ public final class Shamir {
 
   public static BigInteger reconstructSecret(final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries,
                                              final BigInteger prime) {
-    var freeCoefficient = BigInteger.ZERO;
-    BigInteger referencePosition, position;
-    BigInteger numerator, denominator;
-
-    for (final var referencePoint : coordinateEntries) {
-      numerator = denominator = BigInteger.ONE;
-      referencePosition = referencePoint.getKey();
-      for (final var point : coordinateEntries) {
-        position = point.getKey();
-        if (referencePosition.equals(position)) {
-          continue;
-        }
-        numerator = numerator.multiply(position.negate()).mod(prime);
-        denominator = denominator.multiply(referencePosition.subtract(position)).mod(prime);
-      }
-      freeCoefficient = prime.add(freeCoefficient)
-          .add(referencePoint.getValue().multiply(numerator).multiply(denominator.modInverse(prime)))
-          .mod(prime);
+    if (ShamirMersenne61.BIG_PRIME.equals(prime)) {
+      return ShamirMersenne61.reconstructSecret(coordinateEntries);
+    }
+    int numPoints = 0;
+    for (final var ignored : coordinateEntries) {
+      numPoints++;
     }
-    return freeCoefficient;
+    final var limbField = numPoints < LimbField.MIN_RECONSTRUCTION_POINTS ? null : LimbField.create(prime);
+    if (limbField != null) {
+      return limbField.reconstructSecret(coordinateEntries);
+    }
+    final var positions = new BigInteger[numPoints];
+    final var shares = new BigInteger[numPoints];
+    int i = 0;
+    for (final var point : coordinateEntries) {
+      positions[i] = point.getKey();
+      shares[i++] = point.getValue();
+    }
+    return reconstructSecret(PrimeField.create(prime), positions, shares, numPoints);
   }
 
-  private static BigInteger reconstructSecret(final Map.Entry<BigInteger, BigInteger>[] coordinates,
-                                              final BigInteger prime) {
-    var freeCoefficient = BigInteger.ZERO;
-    Map.Entry<BigInteger, BigInteger> referencePoint;
-    BigInteger position;
-    BigInteger numerator, denominator;
+  public static BigInteger reconstructSecret(final int[] positions,
+                                             final BigInteger[] shares,
+                                             final BigInteger prime) {
+    if (positions.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected one share for each of the %d positions, but was given %d.", positions.length, shares.length));
+    }
+    return reconstructSecret(positions, shares, positions.length, prime);
+  }
 
-    final int numPoints = coordinates.length;
+  static BigInteger reconstructSecret(final int[] positions,
+                                      final BigInteger[] shares,
+                                      final int numPoints,
+                                      final BigInteger prime) {
+    if (ShamirMersenne61.BIG_PRIME.equals(prime)) {
+      return ShamirMersenne61.reconstructSecret(positions, shares, numPoints);
+    }
+    final var limbField = numPoints < LimbField.MIN_RECONSTRUCTION_POINTS ? null : LimbField.create(prime);
+    if (limbField != null) {
+      return limbField.reconstructSecret(positions, shares, numPoints);
+    }
+    final var fieldPositions = new BigInteger[numPoints];
     for (int i = 0; i < numPoints; i++) {
-      numerator = denominator = BigInteger.ONE;
-      referencePoint = coordinates[i];
-      for (int j = 0; j < numPoints; j++) {
-        if (i == j) {
-          continue;
-        }
-        position = coordinates[j].getKey();
-        numerator = numerator.multiply(position.negate()).mod(prime);
-        denominator = denominator.multiply(referencePoint.getKey().subtract(position)).mod(prime);
+      fieldPositions[i] = BigInteger.valueOf(positions[i]);
+    }
+    return reconstructSecret(PrimeField.create(prime), fieldPositions, shares, numPoints);
+  }
+
+  // Recovers every coefficient of the polynomial through the shares via Newton divided differences, O(k^2).
+  public static BigInteger[] interpolateCoefficients(final int[] positions,
+                                                     final BigInteger[] shares,
+                                                     final BigInteger prime) {
+    if (positions.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected one share for each of the %d positions, but was given %d.", positions.length, shares.length));
+    }
+    final var reconstructor = ShamirReconstructor.create(prime, positions.length);
+    for (int i = 0; i < positions.length; i++) {
+      reconstructor.offer(positions[i], shares[i]);
+    }
+    return reconstructor.getCoefficients();
+  }
+
+  // Interpolates directly at the lost position, the secret is never computed.
+  public static BigInteger repairShare(final int targetPosition,
+                                       final int[] positions,
+                                       final BigInteger[] shares,
+                                       final BigInteger prime) {
+    return repairShares(new int[]{targetPosition}, positions, shares, prime)[0];
+  }
+
+  // Shares the barycentric weights and a single batch inversion across all lost positions.
+  public static BigInteger[] repairShares(final int[] targetPositions,
+                                          final int[] positions,
+                                          final BigInteger[] shares,
+                                          final BigInteger prime) {
+    if (positions.length == 0 || positions.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected a non-empty set of shares, one for each position, but was given %d positions and %d shares.",
+          positions.length, shares.length));
+    }
+    final var targets = new BigInteger[targetPositions.length];
+    for (int i = 0; i < targets.length; i++) {
+      if (targetPositions[i] == 0) {
+        throw new IllegalArgumentException("Share position must not be zero.");
       }
-      freeCoefficient = prime.add(freeCoefficient)
-          .add(referencePoint.getValue().multiply(numerator).multiply(denominator.modInverse(prime)))
-          .mod(prime);
+      targets[i] = BigInteger.valueOf(targetPositions[i]);
     }
-    return freeCoefficient;
+    return BarycentricInterpolator.create(PrimeField.create(prime), positions, shares, positions.length).evaluate(targets);
   }
 
-  public static BigInteger reconstructSecret(final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries) {
+  private static BigInteger reconstructSecret(final PrimeField field,
+                                              final BigInteger[] positions,
+                                              final BigInteger[] shares,
+                                              final int numPoints) {
+    final var lagrangeCoefficients = field.lagrangeCoefficients(positions, numPoints);
     var freeCoefficient = BigInteger.ZERO;
-    BigInteger referencePosition, position;
-    BigInteger numerator, denominator;
-
-    for (final var referencePoint : coordinateEntries) {
-      numerator = denominator = BigInteger.ONE;
-      referencePosition = referencePoint.getKey();
-      for (final var point : coordinateEntries) {
-        position = point.getKey();
-        if (referencePosition.equals(position)) {
-          continue;
-        }
-        numerator = numerator.multiply(position.negate());
-        denominator = denominator.multiply(referencePosition.subtract(position));
+    for (int i = 0; i < numPoints; i++) {
+      freeCoefficient = freeCoefficient.add(lagrangeCoefficients[i].multiply(shares[i]));
+    }
+    return field.mod(freeCoefficient);
+  }
+
+  // Exact integer reconstruction, every term is brought over one common denominator and divided once at the end.
+  public static BigInteger reconstructSecret(final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries) {
+    int numPoints = 0;
+    for (final var ignored : coordinateEntries) {
+      numPoints++;
+    }
+    final var positions = new BigInteger[numPoints];
+    final var shares = new BigInteger[numPoints];
+    int i = 0;
+    for (final var point : coordinateEntries) {
+      positions[i] = point.getKey();
+      shares[i++] = point.getValue();
+    }
+    return isFirstPositions(positions)
+        ? reconstructFromFirstPositions(positions, shares)
+        : reconstructSecret(positions, shares);
+  }
+
+  private static boolean isFirstPositions(final BigInteger[] positions) {
+    final var seen = new boolean[positions.length];
+    for (final var position : positions) {
+      if (position.signum() <= 0 || position.bitLength() > Integer.SIZE - 1) {
+        return false;
       }
-      freeCoefficient = freeCoefficient.add(referencePoint.getValue().multiply(numerator).multiply(denominator));
+      final int index = position.intValue() - 1;
+      if (index >= positions.length || seen[index]) {
+        return false;
+      }
+      seen[index] = true;
     }
-    return freeCoefficient;
+    return true;
   }
 
-  private static BigInteger reconstructSecret(final Map.Entry<BigInteger, BigInteger>[] coordinates) {
-    var freeCoefficient = BigInteger.ZERO;
-    Map.Entry<BigInteger, BigInteger> referencePoint;
-    BigInteger position;
-    BigInteger numerator, denominator;
+  // For positions 1..k the Lagrange coefficient at zero of position x is (-1)^(x - 1) * C(k, x), built with one exact
+  // division by a small int per coefficient and no modular inverse.
+  private static BigInteger reconstructFromFirstPositions(final BigInteger[] positions, final BigInteger[] shares) {
+    final int numPoints = positions.length;
+    final var coefficients = new BigInteger[numPoints + 1];
+    coefficients[0] = BigInteger.ONE;
+    for (int x = 1; x <= numPoints; x++) {
+      coefficients[x] = coefficients[x - 1].multiply(BigInteger.valueOf(numPoints - x + 1)).divide(BigInteger.valueOf(x));
+    }
+    var secret = BigInteger.ZERO;
+    for (int i = 0; i < numPoints; i++) {
+      final int x = positions[i].intValue();
+      final var term = coefficients[x].multiply(shares[i]);
+      secret = (x & 1) == 1 ? secret.add(term) : secret.subtract(term);
+    }
+    return secret;
+  }
 
-    final int numPoints = coordinates.length;
+  private static BigInteger reconstructSecret(final BigInteger[] positions, final BigInteger[] shares) {
+    final int numPoints = positions.length;
+    final var numerators = new BigInteger[numPoints];
+    final var denominators = new BigInteger[numPoints];
+    var commonDenominator = BigInteger.ONE;
     for (int i = 0; i < numPoints; i++) {
-      numerator = denominator = BigInteger.ONE;
-      referencePoint = coordinates[i];
+      var numerator = shares[i];
+      var denominator = BigInteger.ONE;
+      final var referencePosition = positions[i];
       for (int j = 0; j < numPoints; j++) {
-        if (i == j) {
-          continue;
+        if (i != j) {
+          final var position = positions[j];
+          numerator = numerator.multiply(position);
+          denominator = denominator.multiply(position.subtract(referencePosition));
         }
-        position = coordinates[j].getKey();
-        numerator = numerator.multiply(position.negate());
-        denominator = denominator.multiply(referencePoint.getKey().subtract(position));
       }
-      freeCoefficient = freeCoefficient.add(referencePoint.getValue().multiply(numerator).multiply(denominator));
+      if (denominator.signum() == 0) {
+        throw new IllegalArgumentException("Duplicate share position " + referencePosition);
+      }
+      final var gcd = numerator.gcd(denominator);
+      numerators[i] = numerator.divide(gcd);
+      denominators[i] = denominator.divide(gcd);
+      commonDenominator = commonDenominator.divide(commonDenominator.gcd(denominators[i])).multiply(denominators[i]);
+    }
+    var numerator = BigInteger.ZERO;
+    for (int i = 0; i < numPoints; i++) {
+      numerator = numerator.add(numerators[i].multiply(commonDenominator.divide(denominators[i])));
+    }
+    final var quotientAndRemainder = numerator.divideAndRemainder(commonDenominator);
+    if (quotientAndRemainder[1].signum() != 0) {
+      throw new ArithmeticException(String.format(
+          "Shares do not lie on an integer polynomial, the free coefficient is %s / %s.", numerator, commonDenominator));
     }
-    return freeCoefficient;
+    return quotientAndRemainder[0];
   }
 
-  @SuppressWarnings("unchecked")
+  @SuppressWarnings({"unchecked", "rawtypes"})
   public static Map.Entry<BigInteger, BigInteger>[] createCoordinates(final BigInteger[] shares) {
-    return IntStream.range(0, shares.length)
-        .mapToObj(i -> Map.entry(BigInteger.valueOf(i + 1), shares[i]))
-        .toArray(Map.Entry[]::new);
+    final var coordinates = new Map.Entry[shares.length];
+    for (int i = 0; i < shares.length; i++) {
+      coordinates[i] = Map.entry(BigInteger.valueOf(i + 1), shares[i]);
+    }
+    return coordinates;
   }
 
-  @SuppressWarnings("unchecked")
+  // All shares lie on one polynomial of degree < k with the expected free coefficient if and only if every k-subset
+  // reconstructs the secret, checked in O(n * k) by interpolating the first k shares and evaluating at the others.
+  public static void validateShares(final BigInteger expectedSecret,
+                                    final BigInteger prime,
+                                    final int numRequiredShares,
+                                    final BigInteger[] shares) {
+    if (numRequiredShares < 1 || numRequiredShares > shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be in the range [1, %d].", numRequiredShares, shares.length));
+    }
+    final var positions = new int[shares.length];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = i + 1;
+    }
+    final var secret = ShamirDecoder.interpolateConsistent(PrimeField.create(prime), positions, shares, numRequiredShares);
+    if (secret == null) {
+      throw new IllegalStateException(String.format(
+          "Shares at positions [%d, %d] do not all lie on the degree %d polynomial through the shares at positions [1, %d].",
+          numRequiredShares + 1, shares.length, numRequiredShares - 1, numRequiredShares));
+    }
+    if (!expectedSecret.equals(secret)) {
+      throw new IllegalStateException(String.format("Reconstructed secret does not equal expected secret. %nReconstructed: '%s' %nExpected: '%s' %nWith shares at positions [1, %d].",
+          secret, expectedSecret, numRequiredShares));
+    }
+  }
+
+  // Walks the k-subsets in revolving-door order so that each subset swaps a single share of the previous one,
+  // updating the cached Lagrange basis values in O(k) rather than interpolating each subset in O(k^2).
   public static void validateShareCombinations(final BigInteger expectedSecret,
                                                final BigInteger prime,
                                                final int numRequiredShares,
                                                final BigInteger[] shares) {
-    final long numCombinations = Shamir.shareCombinations(
-        createCoordinates(shares),
-        0, numRequiredShares,
-        new Map.Entry[numRequiredShares], expectedSecret, prime);
+    final var combination = firstCombination(numRequiredShares, shares.length);
+    final var lagrange = IncrementalLagrange.create(prime, shares, combination);
+    long numCombinations = 0;
+    do {
+      lagrange.moveTo(combination);
+      validateReconstruction(expectedSecret, prime, lagrange, combination, shares);
+      numCombinations++;
+    } while (Combinations.nextRevolvingDoor(combination, shares.length));
+    validateNChooseK(shares.length, numRequiredShares, numCombinations);
+  }
+
+  // Partitions the combinations by lexicographic rank across the pool, each task with its own scratch buffers.
+  public static void validateShareCombinations(final BigInteger expectedSecret,
+                                               final BigInteger prime,
+                                               final int numRequiredShares,
+                                               final BigInteger[] shares,
+                                               final ForkJoinPool pool) {
+    final long numExpectedCombinations = Combinations.count(shares.length, numRequiredShares);
+    final long ranksPerTask = Math.max(1, numExpectedCombinations / (pool.getParallelism() * 8L));
+    final long numCombinations = pool.invoke(new ValidateCombinationsTask(
+        expectedSecret, prime, numRequiredShares, shares, 0, numExpectedCombinations, ranksPerTask));
     validateNChooseK(shares.length, numRequiredShares, numCombinations);
   }
 
+  private static final class ValidateCombinationsTask extends RecursiveTask<Long> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BigInteger expectedSecret;
+    private final BigInteger prime;
+    private final int numRequiredShares;
+    private final BigInteger[] shares;
+    private final long fromRank;
+    private final long toRank;
+    private final long ranksPerTask;
+
+    private ValidateCombinationsTask(final BigInteger expectedSecret,
+                                     final BigInteger prime,
+                                     final int numRequiredShares,
+                                     final BigInteger[] shares,
+                                     final long fromRank,
+                                     final long toRank,
+                                     final long ranksPerTask) {
+      this.expectedSecret = expectedSecret;
+      this.prime = prime;
+      this.numRequiredShares = numRequiredShares;
+      this.shares = shares;
+      this.fromRank = fromRank;
+      this.toRank = toRank;
+      this.ranksPerTask = ranksPerTask;
+    }
+
+    @Override
+    protected Long compute() {
+      if (toRank - fromRank > ranksPerTask) {
+        final long midRank = (fromRank + toRank) >>> 1;
+        final var left = new ValidateCombinationsTask(expectedSecret, prime, numRequiredShares, shares, fromRank, midRank, ranksPerTask);
+        left.fork();
+        final long numRight = new ValidateCombinationsTask(expectedSecret, prime, numRequiredShares, shares, midRank, toRank, ranksPerTask).compute();
+        return left.join() + numRight;
+      }
+      final var combination = Combinations.unrank(fromRank, shares.length, numRequiredShares);
+      final var lagrange = IncrementalLagrange.create(prime, shares, combination);
+      long numValidated = 0;
+      for (long rank = fromRank; rank < toRank; rank++) {
+        lagrange.moveTo(combination);
+        validateReconstruction(expectedSecret, prime, lagrange, combination, shares);
+        numValidated++;
+        Combinations.next(combination, shares.length);
+      }
+      return numValidated;
+    }
+  }
+
+  // Validates the lexicographic ranks [fromRank, toRank) of C(n, k) so that an exhaustive validation may be sharded
+  // across processes or resumed. Every checkpointInterval combinations, and once done, the checkpoint receives the next
+  // rank to validate, all lower ranks in the range having passed. Returns the number of combinations validated.
+  public static BigInteger validateShareCombinations(final BigInteger expectedSecret,
+                                                     final BigInteger prime,
+                                                     final int numRequiredShares,
+                                                     final BigInteger[] shares,
+                                                     final BigInteger fromRank,
+                                                     final BigInteger toRank,
+                                                     final long checkpointInterval,
+                                                     final Consumer<BigInteger> checkpoint) {
+    checkRequiredShares(numRequiredShares, shares.length);
+    final var numExpectedCombinations = Combinations.countExact(shares.length, numRequiredShares);
+    if (fromRank.signum() < 0 || fromRank.compareTo(toRank) > 0 || toRank.compareTo(numExpectedCombinations) > 0) {
+      throw new IllegalArgumentException(String.format(
+          "Rank range [%s, %s) must be within [0, %s].", fromRank, toRank, numExpectedCombinations));
+    }
+    if (checkpointInterval < 1) {
+      throw new IllegalArgumentException(String.format("Checkpoint interval (%d) must be at least 1.", checkpointInterval));
+    }
+    if (fromRank.equals(toRank)) {
+      checkpoint.accept(toRank);
+      return BigInteger.ZERO;
+    }
+    final var combination = Combinations.unrank(fromRank, shares.length, numRequiredShares);
+    final var lagrange = IncrementalLagrange.create(prime, shares, combination);
+    // A range beyond 2^63 combinations could never finish, so it is bounded by the long counter.
+    final var span = toRank.subtract(fromRank);
+    final long numCombinations = span.bitLength() < Long.SIZE ? span.longValue() : Long.MAX_VALUE;
+    long numValidated = 0;
+    do {
+      lagrange.moveTo(combination);
+      validateReconstruction(expectedSecret, prime, lagrange, combination, shares);
+      if (++numValidated % checkpointInterval == 0) {
+        checkpoint.accept(fromRank.add(BigInteger.valueOf(numValidated)));
+      }
+    } while (numValidated < numCombinations && Combinations.next(combination, shares.length));
+    if (numValidated % checkpointInterval != 0) {
+      checkpoint.accept(fromRank.add(BigInteger.valueOf(numValidated)));
+    }
+    return BigInteger.valueOf(numValidated);
+  }
+
+  private static void checkRequiredShares(final int numRequiredShares, final int numShares) {
+    if (numRequiredShares < 1 || numRequiredShares > numShares) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be in the range [1, %d].", numRequiredShares, numShares));
+    }
+  }
+
+  private static int[] firstCombination(final int numRequiredShares, final int numShares) {
+    checkRequiredShares(numRequiredShares, numShares);
+    final var combination = new int[numRequiredShares];
+    for (int i = 0; i < numRequiredShares; i++) {
+      combination[i] = i;
+    }
+    return combination;
+  }
+
+  // Samples needed so that if at least the given fraction of k-subsets fails to reconstruct the secret, one of them
+  // is drawn with the given confidence, ln(1 - confidence) / ln(1 - failingFraction).
+  public static long numSamplesForConfidence(final double confidence, final double failingFraction) {
+    if (!(confidence > 0 && confidence < 1) || !(failingFraction > 0 && failingFraction <= 1)) {
+      throw new IllegalArgumentException(String.format(
+          "Confidence (%s) must be in (0, 1) and the failing fraction (%s) in (0, 1].", confidence, failingFraction));
+    }
+    return failingFraction == 1
+        ? 1
+        : Math.max(1, (long) Math.ceil(Math.log1p(-confidence) / Math.log1p(-failingFraction)));
+  }
+
+  public static long validateShareSamples(final BigInteger expectedSecret,
+                                          final BigInteger prime,
+                                          final int numRequiredShares,
+                                          final BigInteger[] shares,
+                                          final Random random,
+                                          final long numSamples) {
+    return validateShareSamples(expectedSecret, prime, numRequiredShares, shares, random, numSamples, Long.MAX_VALUE);
+  }
+
+  // Stops after numSamples or once the time budget is spent, whichever comes first, and returns the number of
+  // k-subsets validated, always at least one.
+  public static long validateShareSamples(final BigInteger expectedSecret,
+                                          final BigInteger prime,
+                                          final int numRequiredShares,
+                                          final BigInteger[] shares,
+                                          final Random random,
+                                          final long numSamples,
+                                          final Duration timeBudget) {
+    final long budgetNanos = timeBudget.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : timeBudget.toNanos();
+    return validateShareSamples(expectedSecret, prime, numRequiredShares, shares, random, numSamples, budgetNanos);
+  }
+
+  // Draws k-subsets uniformly, with replacement, by unranking uniformly random ranks in [0, C(n, k)).
+  private static long validateShareSamples(final BigInteger expectedSecret,
+                                           final BigInteger prime,
+                                           final int numRequiredShares,
+                                           final BigInteger[] shares,
+                                           final Random random,
+                                           final long numSamples,
+                                           final long budgetNanos) {
+    if (numSamples < 1) {
+      throw new IllegalArgumentException(String.format("Number of samples (%d) must be at least 1.", numSamples));
+    }
+    checkRequiredShares(numRequiredShares, shares.length);
+    final var numCombinations = Combinations.countExact(shares.length, numRequiredShares);
+    final var positions = new int[numRequiredShares];
+    final var combinationShares = new BigInteger[numRequiredShares];
+    final long start = System.nanoTime();
+    long numValidated = 0;
+    do {
+      final var combination = Combinations.unrank(Combinations.randomRank(random, numCombinations), shares.length, numRequiredShares);
+      for (int i = 0; i < numRequiredShares; i++) {
+        positions[i] = combination[i] + 1;
+        combinationShares[i] = shares[combination[i]];
+      }
+      validateReconstruction(expectedSecret, prime, positions, combinationShares);
+      numValidated++;
+    } while (numValidated < numSamples && System.nanoTime() - start < budgetNanos);
+    return numValidated;
+  }
+
   static void validateNChooseK(final int n, final int k, final long numCombinations) {
     final long numExpectedCombinations = BinomialCoefficient.value(n, k);
     if (numCombinations != numExpectedCombinations) {
@@ -201,31 +531,41 @@ public final class Shamir {
     }
   }
 
-  private static long shareCombinations(final Map.Entry<BigInteger, BigInteger>[] coordinates,
-                                        final int startPos,
-                                        final int len,
-                                        final Map.Entry<BigInteger, BigInteger>[] result,
-                                        final BigInteger expectedSecret,
-                                        final BigInteger prime) {
-    if (len == 0) {
-      validateReconstruction(expectedSecret, prime, result);
-      return 1;
-    }
-    long numSubSets = 0;
-    for (int i = startPos; i <= coordinates.length - len; i++) {
-      result[result.length - len] = coordinates[i];
-      numSubSets += shareCombinations(coordinates, i + 1, len - 1, result, expectedSecret, prime);
+  // Checks that shards of a range validation add up to C(n, k), for n beyond the long range of BinomialCoefficient.
+  public static void validateNChooseK(final int n, final int k, final BigInteger numCombinations) {
+    final var numExpectedCombinations = Combinations.countExact(n, k);
+    if (!numCombinations.equals(numExpectedCombinations)) {
+      throw new IllegalStateException(String.format(
+          "Binomial coefficient of %d choose %d is %s, but we tested %s combinations.",
+          n, k, numExpectedCombinations, numCombinations));
     }
-    return numSubSets;
   }
 
   private static void validateReconstruction(final BigInteger expectedSecret,
                                              final BigInteger prime,
-                                             final Map.Entry<BigInteger, BigInteger>[] coordinates) {
-    final var reconstructedSecret = reconstructSecret(coordinates, prime);
+                                             final int[] positions,
+                                             final BigInteger[] shares) {
+    final var reconstructedSecret = reconstructSecret(positions, shares, positions.length, prime);
     if (!expectedSecret.equals(reconstructedSecret)) {
-      throw new IllegalStateException(String.format("Reconstructed secret does not equal expected secret. %nReconstructed: '%s' %nExpected: '%s' %nWith %d shares: %n%s",
-          reconstructedSecret, expectedSecret, coordinates.length, Arrays.toString(coordinates)));
+      throw new IllegalStateException(String.format("Reconstructed secret does not equal expected secret. %nReconstructed: '%s' %nExpected: '%s' %nWith %d shares at positions %s: %n%s",
+          reconstructedSecret, expectedSecret, shares.length, Arrays.toString(positions), Arrays.toString(shares)));
+    }
+  }
+
+  // Falls back to a full interpolation of the subset to report a mismatch.
+  private static void validateReconstruction(final BigInteger expectedSecret,
+                                             final BigInteger prime,
+                                             final IncrementalLagrange lagrange,
+                                             final int[] combination,
+                                             final BigInteger[] shares) {
+    if (!lagrange.isSecret(expectedSecret)) {
+      final var positions = new int[combination.length];
+      final var combinationShares = new BigInteger[combination.length];
+      for (int i = 0; i < combination.length; i++) {
+        positions[i] = combination[i] + 1;
+        combinationShares[i] = shares[combination[i]];
+      }
+      validateReconstruction(expectedSecret, prime, positions, combinationShares);
     }
   }
 }
@@ -0,0 +1,178 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+// Berlekamp-Welch decoding of n shares of a degree k - 1 polynomial with up to (n - k) / 2 corrupt shares.
+public final class ShamirDecoder {
+
+  private ShamirDecoder() {
+  }
+
+  public static DecodedSecret decode(final int[] positions,
+                                     final BigInteger[] shares,
+                                     final int requiredShares,
+                                     final BigInteger prime) {
+    final int numShares = positions.length;
+    if (numShares != shares.length || requiredShares < 1 || requiredShares > numShares) {
+      throw new IllegalArgumentException(String.format(
+          "Expected at least required shares (%d) shares, one for each position, but was given %d positions and %d shares.",
+          requiredShares, numShares, shares.length));
+    }
+    final var sortedPositions = positions.clone();
+    Arrays.sort(sortedPositions);
+    for (int i = 1; i < numShares; i++) {
+      if (sortedPositions[i] == sortedPositions[i - 1]) {
+        throw new IllegalArgumentException("Duplicate share position " + sortedPositions[i]);
+      }
+    }
+    final var field = PrimeField.create(prime);
+    final var x = new BigInteger[numShares];
+    final var y = new BigInteger[numShares];
+    for (int i = 0; i < numShares; i++) {
+      x[i] = field.mod(BigInteger.valueOf(positions[i]));
+      y[i] = field.mod(shares[i]);
+    }
+
+    final var secret = interpolateConsistent(field, positions, y, requiredShares);
+    if (secret != null) {
+      return new DecodedSecret(secret, new int[0]);
+    }
+
+    final int maxErrors = (numShares - requiredShares) / 2;
+    final var polynomial = maxErrors == 0 ? null : berlekampWelch(field, x, y, requiredShares, maxErrors);
+    if (polynomial == null) {
+      throw new IllegalStateException(String.format(
+          "Shares are inconsistent and more than %d of the %d shares are corrupt.", maxErrors, numShares));
+    }
+    final var corruptPositions = new int[numShares];
+    int numCorrupt = 0;
+    for (int i = 0; i < numShares; i++) {
+      var value = BigInteger.ZERO;
+      for (int exp = polynomial.length - 1; exp >= 0; exp--) {
+        value = field.mod(value.multiply(x[i]).add(polynomial[exp]));
+      }
+      if (!value.equals(y[i])) {
+        corruptPositions[numCorrupt++] = positions[i];
+      }
+    }
+    if (numCorrupt > maxErrors) {
+      throw new IllegalStateException(String.format(
+          "Shares are inconsistent and more than %d of the %d shares are corrupt.", maxErrors, numShares));
+    }
+    return new DecodedSecret(polynomial[0], Arrays.copyOf(corruptPositions, numCorrupt));
+  }
+
+  // Interpolates the first k shares and checks the remaining n - k against them, O(n * k).
+  // Returns the value at zero, or null if any of the remaining shares is off the polynomial.
+  static BigInteger interpolateConsistent(final PrimeField field,
+                                          final int[] positions,
+                                          final BigInteger[] shares,
+                                          final int requiredShares) {
+    final int numShares = shares.length;
+    final var points = new BigInteger[numShares - requiredShares + 1];
+    points[0] = BigInteger.ZERO;
+    for (int p = 1; p < points.length; p++) {
+      points[p] = field.mod(BigInteger.valueOf(positions[requiredShares + p - 1]));
+    }
+    final var values = BarycentricInterpolator.create(field, positions, shares, requiredShares).evaluate(points);
+    for (int p = 1; p < points.length; p++) {
+      if (!values[p].equals(field.mod(shares[requiredShares + p - 1]))) {
+        return null;
+      }
+    }
+    return values[0];
+  }
+
+  // Solves Q(x_i) = y_i * E(x_i) for monic E of degree e and Q of degree < e + k, then returns Q / E, or null.
+  static BigInteger[] berlekampWelch(final PrimeField field,
+                                     final BigInteger[] x,
+                                     final BigInteger[] y,
+                                     final int requiredShares,
+                                     final int maxErrors) {
+    final int numShares = x.length;
+    final int numQ = maxErrors + requiredShares;
+    final int numUnknowns = numQ + maxErrors;
+    final var matrix = new BigInteger[numShares][numUnknowns + 1];
+    for (int i = 0; i < numShares; i++) {
+      final var row = matrix[i];
+      var power = BigInteger.ONE;
+      for (int j = 0; j < numQ; j++) {
+        row[j] = power;
+        if (j < maxErrors) {
+          row[numQ + j] = field.subtract(BigInteger.ZERO, field.multiply(y[i], power));
+        } else if (j == maxErrors) {
+          row[numUnknowns] = field.multiply(y[i], power);
+        }
+        power = field.multiply(power, x[i]);
+      }
+    }
+    final var solution = solve(field, matrix, numUnknowns);
+    if (solution == null) {
+      return null;
+    }
+    final var remainder = Arrays.copyOf(solution, numQ);
+    final var errorLocator = Arrays.copyOfRange(solution, numQ, numUnknowns + 1);
+    errorLocator[maxErrors] = BigInteger.ONE;
+    // Long division by the monic error locator.
+    final var quotient = new BigInteger[requiredShares];
+    for (int i = requiredShares - 1; i >= 0; i--) {
+      final var coefficient = remainder[i + maxErrors];
+      quotient[i] = coefficient;
+      for (int j = 0; j <= maxErrors; j++) {
+        remainder[i + j] = field.subtract(remainder[i + j], field.multiply(coefficient, errorLocator[j]));
+      }
+    }
+    for (int i = 0; i < maxErrors; i++) {
+      if (remainder[i].signum() != 0) {
+        return null;
+      }
+    }
+    return quotient;
+  }
+
+  // Gauss-Jordan elimination of an augmented matrix, free variables are set to zero, returns null if inconsistent.
+  static BigInteger[] solve(final PrimeField field, final BigInteger[][] matrix, final int numUnknowns) {
+    final int numRows = matrix.length;
+    final var pivotRows = new int[numUnknowns];
+    Arrays.fill(pivotRows, -1);
+    int pivotRow = 0;
+    for (int column = 0; column < numUnknowns && pivotRow < numRows; column++) {
+      int row = pivotRow;
+      while (row < numRows && matrix[row][column].signum() == 0) {
+        row++;
+      }
+      if (row == numRows) {
+        continue;
+      }
+      final var swap = matrix[row];
+      matrix[row] = matrix[pivotRow];
+      matrix[pivotRow] = swap;
+      final var pivot = matrix[pivotRow];
+      final var inverse = field.inverse(pivot[column]);
+      for (int c = column; c <= numUnknowns; c++) {
+        pivot[c] = field.multiply(pivot[c], inverse);
+      }
+      for (int r = 0; r < numRows; r++) {
+        final var other = matrix[r];
+        final var factor = other[column];
+        if (r != pivotRow && factor.signum() != 0) {
+          for (int c = column; c <= numUnknowns; c++) {
+            other[c] = field.subtract(other[c], field.multiply(factor, pivot[c]));
+          }
+        }
+      }
+      pivotRows[column] = pivotRow++;
+    }
+    for (int r = pivotRow; r < numRows; r++) {
+      if (matrix[r][numUnknowns].signum() != 0) {
+        return null;
+      }
+    }
+    final var solution = new BigInteger[numUnknowns];
+    for (int column = 0; column < numUnknowns; column++) {
+      solution[column] = pivotRows[column] < 0 ? BigInteger.ZERO : matrix[pivotRows[column]][numUnknowns];
+    }
+    return solution;
+  }
+}
@@ -0,0 +1,158 @@
+package systems.comodal.shamir;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public final class ShamirGF256 {
+
+  public static final int MAX_SHARES = 255;
+
+  // AES reduction polynomial x^8 + x^4 + x^3 + x + 1, generated by x + 1.
+  private static final int POLYNOMIAL = 0x11B;
+  private static final int ORDER = 255;
+
+  // Payloads are processed in cache sized chunks, which are spread across the common pool once large enough.
+  static final int CHUNK_SIZE = 1 << 14;
+  static final int PARALLEL_THRESHOLD = 1 << 17;
+
+  private static final int[] EXP = new int[ORDER << 1];
+  private static final int[] LOG = new int[256];
+  private static final byte[] MUL = new byte[256 << 8];
+
+  static {
+    for (int i = 0, value = 1; i < ORDER; i++) {
+      EXP[i] = EXP[i + ORDER] = value;
+      LOG[value] = i;
+      value ^= multiplyByX(value);
+    }
+    for (int a = 1; a < 256; a++) {
+      for (int b = 1; b < 256; b++) {
+        MUL[(a << 8) | b] = (byte) EXP[LOG[a] + LOG[b]];
+      }
+    }
+  }
+
+  private ShamirGF256() {
+  }
+
+  private static int multiplyByX(final int value) {
+    final int shifted = value << 1;
+    return (shifted & 0x100) == 0 ? shifted : shifted ^ POLYNOMIAL;
+  }
+
+  static int multiply(final int a, final int b) {
+    return MUL[(a << 8) | b] & 0xFF;
+  }
+
+  static int inverse(final int value) {
+    if (value == 0) {
+      throw new ArithmeticException("Zero is not invertible.");
+    }
+    return EXP[ORDER - LOG[value]];
+  }
+
+  public static byte[][] createShares(final Random secureRandom,
+                                      final byte[] secret,
+                                      final int requiredShares,
+                                      final int numShares) {
+    if (requiredShares < 1 || requiredShares > numShares || numShares > MAX_SHARES) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be in the range [1, numShares] and num shares (%d) must not exceed %d.",
+          requiredShares, numShares, MAX_SHARES));
+    }
+    final var coefficients = new byte[requiredShares - 1][secret.length];
+    for (final var coefficient : coefficients) {
+      secureRandom.nextBytes(coefficient);
+    }
+    final var shares = new byte[numShares][secret.length + 1];
+    for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
+      shares[shareIndex][0] = (byte) (shareIndex + 1);
+    }
+    chunks(secret.length).forEach(chunk -> {
+      final int from = chunk * CHUNK_SIZE;
+      final int to = Math.min(secret.length, from + CHUNK_SIZE);
+      for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
+        final var share = shares[shareIndex];
+        final int sharePosition = shareIndex + 1;
+        for (int exp = coefficients.length - 1; exp >= 0; exp--) {
+          multiplyAdd(share, sharePosition, coefficients[exp], from, to);
+        }
+        multiplyAdd(share, sharePosition, secret, from, to);
+      }
+    });
+    return shares;
+  }
+
+  public static byte[] reconstructSecret(final byte[]... shares) {
+    final int numPoints = shares.length;
+    if (numPoints == 0) {
+      throw new IllegalArgumentException("At least one share is required.");
+    }
+    final int secretLength = shares[0].length - 1;
+    final var positions = new int[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      if (shares[i].length != secretLength + 1) {
+        throw new IllegalArgumentException("All shares must be the same length.");
+      }
+      positions[i] = shares[i][0] & 0xFF;
+      if (positions[i] == 0) {
+        throw new IllegalArgumentException("Share position must not be zero.");
+      }
+    }
+    final var lagrangeCoefficients = new int[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      int logNumerator = 0;
+      int logDenominator = 0;
+      for (int j = 0; j < numPoints; j++) {
+        if (i == j) {
+          continue;
+        }
+        final int difference = positions[j] ^ positions[i];
+        if (difference == 0) {
+          throw new IllegalArgumentException("Duplicate share position " + positions[i]);
+        }
+        logNumerator += LOG[positions[j]];
+        logDenominator += LOG[difference];
+      }
+      lagrangeCoefficients[i] = EXP[Math.floorMod(logNumerator - logDenominator, ORDER)];
+    }
+    final var secret = new byte[secretLength];
+    chunks(secretLength).forEach(chunk -> {
+      final int from = chunk * CHUNK_SIZE;
+      final int to = Math.min(secretLength, from + CHUNK_SIZE);
+      for (int i = 0; i < numPoints; i++) {
+        multiplyAccumulate(secret, lagrangeCoefficients[i], shares[i], from, to);
+      }
+    });
+    return secret;
+  }
+
+  static IntStream chunks(final int length) {
+    final var chunks = IntStream.range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    return length < PARALLEL_THRESHOLD ? chunks : chunks.parallel();
+  }
+
+  // share[1 + i] = share[1 + i] * x + coefficients[i], for i in [from, to)
+  static void multiplyAdd(final byte[] share,
+                          final int x,
+                          final byte[] coefficients,
+                          final int from,
+                          final int to) {
+    final int row = x << 8;
+    for (int i = from, s = from + 1; i < to; i++, s++) {
+      share[s] = (byte) (MUL[row | (share[s] & 0xFF)] ^ coefficients[i]);
+    }
+  }
+
+  // secret[i] += lagrangeCoefficient * share[1 + i], for i in [from, to)
+  static void multiplyAccumulate(final byte[] secret,
+                                 final int lagrangeCoefficient,
+                                 final byte[] share,
+                                 final int from,
+                                 final int to) {
+    final int row = lagrangeCoefficient << 8;
+    for (int i = from, s = from + 1; i < to; i++, s++) {
+      secret[i] ^= MUL[row | (share[s] & 0xFF)];
+    }
+  }
+}
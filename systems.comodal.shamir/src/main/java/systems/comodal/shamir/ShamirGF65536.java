@@ -0,0 +1,155 @@
+package systems.comodal.shamir;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public final class ShamirGF65536 {
+
+  public static final int MAX_SHARES = 65_535;
+
+  // Primitive reduction polynomial x^16 + x^12 + x^3 + x + 1, generated by x.
+  private static final int POLYNOMIAL = 0x1100B;
+  private static final int ORDER = 65_535;
+
+  static final int CHUNK_SIZE = 1 << 13;
+  static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  private static final char[] EXP = new char[ORDER << 1];
+  private static final int[] LOG = new int[1 << 16];
+
+  static {
+    for (int i = 0, value = 1; i < ORDER; i++) {
+      EXP[i] = EXP[i + ORDER] = (char) value;
+      LOG[value] = i;
+      value <<= 1;
+      if ((value & 0x10000) != 0) {
+        value ^= POLYNOMIAL;
+      }
+    }
+  }
+
+  private ShamirGF65536() {
+  }
+
+  static int multiply(final int a, final int b) {
+    return a == 0 || b == 0 ? 0 : EXP[LOG[a] + LOG[b]];
+  }
+
+  static int inverse(final int value) {
+    if (value == 0) {
+      throw new ArithmeticException("Zero is not invertible.");
+    }
+    return EXP[ORDER - LOG[value]];
+  }
+
+  public static char[][] createShares(final Random secureRandom,
+                                      final char[] secret,
+                                      final int requiredShares,
+                                      final int numShares) {
+    if (requiredShares < 1 || requiredShares > numShares || numShares > MAX_SHARES) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be in the range [1, numShares] and num shares (%d) must not exceed %d.",
+          requiredShares, numShares, MAX_SHARES));
+    }
+    final var coefficients = new char[requiredShares - 1][secret.length];
+    final var randomBytes = new byte[secret.length << 1];
+    for (final var coefficient : coefficients) {
+      secureRandom.nextBytes(randomBytes);
+      for (int i = 0, b = 0; i < coefficient.length; i++, b += 2) {
+        coefficient[i] = (char) (((randomBytes[b] & 0xFF) << 8) | (randomBytes[b + 1] & 0xFF));
+      }
+    }
+    final var shares = new char[numShares][secret.length + 1];
+    for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
+      shares[shareIndex][0] = (char) (shareIndex + 1);
+    }
+    chunks(secret.length).forEach(chunk -> {
+      final int from = chunk * CHUNK_SIZE;
+      final int to = Math.min(secret.length, from + CHUNK_SIZE);
+      for (int shareIndex = 0; shareIndex < numShares; shareIndex++) {
+        final var share = shares[shareIndex];
+        final int logSharePosition = LOG[shareIndex + 1];
+        for (int exp = coefficients.length - 1; exp >= 0; exp--) {
+          multiplyAdd(share, logSharePosition, coefficients[exp], from, to);
+        }
+        multiplyAdd(share, logSharePosition, secret, from, to);
+      }
+    });
+    return shares;
+  }
+
+  public static char[] reconstructSecret(final char[]... shares) {
+    final int numPoints = shares.length;
+    if (numPoints == 0) {
+      throw new IllegalArgumentException("At least one share is required.");
+    }
+    final int secretLength = shares[0].length - 1;
+    final var positions = new int[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      if (shares[i].length != secretLength + 1) {
+        throw new IllegalArgumentException("All shares must be the same length.");
+      }
+      positions[i] = shares[i][0];
+      if (positions[i] == 0) {
+        throw new IllegalArgumentException("Share position must not be zero.");
+      }
+    }
+    final var logLagrangeCoefficients = new int[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      long logNumerator = 0;
+      long logDenominator = 0;
+      for (int j = 0; j < numPoints; j++) {
+        if (i == j) {
+          continue;
+        }
+        final int difference = positions[j] ^ positions[i];
+        if (difference == 0) {
+          throw new IllegalArgumentException("Duplicate share position " + positions[i]);
+        }
+        logNumerator += LOG[positions[j]];
+        logDenominator += LOG[difference];
+      }
+      logLagrangeCoefficients[i] = Math.floorMod(logNumerator - logDenominator, ORDER);
+    }
+    final var secret = new char[secretLength];
+    chunks(secretLength).forEach(chunk -> {
+      final int from = chunk * CHUNK_SIZE;
+      final int to = Math.min(secretLength, from + CHUNK_SIZE);
+      for (int i = 0; i < numPoints; i++) {
+        multiplyAccumulate(secret, logLagrangeCoefficients[i], shares[i], from, to);
+      }
+    });
+    return secret;
+  }
+
+  static IntStream chunks(final int length) {
+    final var chunks = IntStream.range(0, (length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    return length < PARALLEL_THRESHOLD ? chunks : chunks.parallel();
+  }
+
+  // share[1 + i] = share[1 + i] * x + coefficients[i], for i in [from, to)
+  static void multiplyAdd(final char[] share,
+                          final int logX,
+                          final char[] coefficients,
+                          final int from,
+                          final int to) {
+    for (int i = from, s = from + 1; i < to; i++, s++) {
+      final int y = share[s];
+      share[s] = y == 0 ? coefficients[i] : (char) (EXP[LOG[y] + logX] ^ coefficients[i]);
+    }
+  }
+
+  // secret[i] += lagrangeCoefficient * share[1 + i], for i in [from, to)
+  static void multiplyAccumulate(final char[] secret,
+                                 final int logLagrangeCoefficient,
+                                 final char[] share,
+                                 final int from,
+                                 final int to) {
+    for (int i = from, s = from + 1; i < to; i++, s++) {
+      final int y = share[s];
+      if (y != 0) {
+        secret[i] ^= EXP[LOG[y] + logLagrangeCoefficient];
+      }
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Random;
+
+public final class ShamirMersenne61 {
+
+  public static final int EXPONENT = 61;
+  public static final long PRIME = (1L << EXPONENT) - 1;
+
+  static final BigInteger BIG_PRIME = BigInteger.valueOf(PRIME);
+
+  private ShamirMersenne61() {
+  }
+
+  public static long[] createSecrets(final Random secureRandom, final int requiredShares) {
+    final var secrets = new long[requiredShares];
+    createSecrets(secureRandom, secrets);
+    return secrets;
+  }
+
+  public static void createSecrets(final Random secureRandom, final long[] secrets) {
+    for (int i = 0; i < secrets.length; i++) {
+      secrets[i] = createSecret(secureRandom);
+    }
+  }
+
+  public static long createSecret(final Random secureRandom) {
+    for (long secret; ; ) {
+      secret = secureRandom.nextLong() & PRIME;
+      if (secret > 0 && secret < PRIME) {
+        return secret;
+      }
+    }
+  }
+
+  public static long[] createShares(final Random secureRandom,
+                                    final long secret,
+                                    final int requiredShares,
+                                    final int numShares) {
+    final var secrets = new long[requiredShares];
+    secrets[0] = secret;
+    for (int i = 1; i < requiredShares; i++) {
+      secrets[i] = createSecret(secureRandom);
+    }
+    return createShares(secrets, numShares);
+  }
+
+  public static long[] createShares(final long[] secrets, final int numShares) {
+    final var shares = new long[numShares];
+    createShares(secrets, shares);
+    return shares;
+  }
+
+  public static void createShares(final long[] secrets, final long[] shares) {
+    final int lastExp = secrets.length - 1;
+    for (int shareIndex = 0; shareIndex < shares.length; shareIndex++) {
+      final long sharePosition = shareIndex + 1;
+      var result = reduce(secrets[lastExp]);
+      for (int exp = lastExp - 1; exp >= 0; exp--) {
+        result = add(multiply(result, sharePosition), reduce(secrets[exp]));
+      }
+      shares[shareIndex] = result;
+    }
+  }
+
+  public static long reconstructSecret(final int[] positions, final long[] shares) {
+    final int numPoints = positions.length;
+    final var fieldPositions = new long[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      fieldPositions[i] = toField(positions[i]);
+    }
+    return reconstructSecret(fieldPositions, shares, numPoints);
+  }
+
+  static long reconstructSecret(final long[] positions, final long[] shares, final int numPoints) {
+    final var lagrangeCoefficients = lagrangeCoefficients(positions, numPoints);
+    long freeCoefficient = 0;
+    for (int i = 0; i < numPoints; i++) {
+      freeCoefficient = add(freeCoefficient, multiply(lagrangeCoefficients[i], reduce(shares[i])));
+    }
+    return freeCoefficient;
+  }
+
+  static long[] lagrangeCoefficients(final long[] positions, final int numPoints) {
+    final var coefficients = new long[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      long denominator = 1;
+      final long referencePosition = positions[i];
+      for (int j = 0; j < numPoints; j++) {
+        if (i != j) {
+          denominator = multiply(denominator, subtract(positions[j], referencePosition));
+        }
+      }
+      coefficients[i] = denominator;
+    }
+    inverse(coefficients, numPoints);
+    long product = 1;
+    for (int i = 0; i < numPoints; i++) {
+      coefficients[i] = multiply(coefficients[i], product);
+      product = multiply(product, positions[i]);
+    }
+    product = 1;
+    for (int i = numPoints - 1; i >= 0; i--) {
+      coefficients[i] = multiply(coefficients[i], product);
+      product = multiply(product, positions[i]);
+    }
+    return coefficients;
+  }
+
+  static BigInteger[] createShares(final BigInteger[] secrets, final int numShares) {
+    final var fieldSecrets = new long[secrets.length];
+    for (int i = 0; i < secrets.length; i++) {
+      fieldSecrets[i] = toField(secrets[i]);
+    }
+    final var fieldShares = createShares(fieldSecrets, numShares);
+    final var shares = new BigInteger[numShares];
+    for (int i = 0; i < numShares; i++) {
+      shares[i] = BigInteger.valueOf(fieldShares[i]);
+    }
+    return shares;
+  }
+
+  static BigInteger reconstructSecret(final Iterable<Map.Entry<BigInteger, BigInteger>> coordinateEntries) {
+    int numPoints = 0;
+    for (final var ignored : coordinateEntries) {
+      numPoints++;
+    }
+    final var positions = new long[numPoints];
+    final var shares = new long[numPoints];
+    int i = 0;
+    for (final var point : coordinateEntries) {
+      positions[i] = toField(point.getKey());
+      shares[i++] = toField(point.getValue());
+    }
+    return BigInteger.valueOf(reconstructSecret(positions, shares, numPoints));
+  }
+
+  static BigInteger reconstructSecret(final int[] positions, final BigInteger[] shares, final int numPoints) {
+    final var fieldPositions = new long[numPoints];
+    final var fieldShares = new long[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      fieldPositions[i] = toField(positions[i]);
+      fieldShares[i] = toField(shares[i]);
+    }
+    return BigInteger.valueOf(reconstructSecret(fieldPositions, fieldShares, numPoints));
+  }
+
+  static long toField(final int value) {
+    return value < 0 ? value + PRIME : value;
+  }
+
+  static long toField(final BigInteger value) {
+    return value.signum() >= 0 && value.bitLength() <= EXPONENT
+        ? reduce(value.longValue())
+        : value.mod(BIG_PRIME).longValue();
+  }
+
+  // Folds the bits above 2^61 back onto the low bits, valid for any long interpreted as unsigned.
+  static long reduce(final long value) {
+    final long folded = (value & PRIME) + (value >>> EXPONENT);
+    return folded >= PRIME ? folded - PRIME : folded;
+  }
+
+  static long add(final long a, final long b) {
+    final long sum = a + b;
+    return sum >= PRIME ? sum - PRIME : sum;
+  }
+
+  static long subtract(final long a, final long b) {
+    final long difference = a - b;
+    return difference < 0 ? difference + PRIME : difference;
+  }
+
+  static long multiply(final long a, final long b) {
+    final long high = Math.multiplyHigh(a, b);
+    final long low = a * b;
+    return reduce((low & PRIME) + ((high << (Long.SIZE - EXPONENT)) | (low >>> EXPONENT)));
+  }
+
+  static long pow(long base, long exponent) {
+    long result = 1;
+    for (; exponent > 0; exponent >>>= 1) {
+      if ((exponent & 1) == 1) {
+        result = multiply(result, base);
+      }
+      base = multiply(base, base);
+    }
+    return result;
+  }
+
+  static void inverse(final long[] values, final int numValues) {
+    if (numValues == 0) {
+      return;
+    }
+    final var prefixes = new long[numValues];
+    prefixes[0] = values[0];
+    for (int i = 1; i < numValues; i++) {
+      prefixes[i] = multiply(prefixes[i - 1], values[i]);
+    }
+    long inverse = inverse(prefixes[numValues - 1]);
+    for (int i = numValues - 1; i > 0; i--) {
+      final long value = values[i];
+      values[i] = multiply(inverse, prefixes[i - 1]);
+      inverse = multiply(inverse, value);
+    }
+    values[0] = inverse;
+  }
+
+  static long inverse(final long value) {
+    if (value == 0) {
+      throw new ArithmeticException("Zero is not invertible.");
+    }
+    return pow(value, PRIME - 2);
+  }
+}
@@ -0,0 +1,187 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+public final class ShamirNtt {
+
+  private ShamirNtt() {
+  }
+
+  // Shares live at w^i for i in [0, numShares), with w a primitive root of unity of the smallest power of two order >= numShares.
+  static int transformSize(final int numShares) {
+    return numShares <= 1 ? 1 : Integer.highestOneBit(numShares - 1) << 1;
+  }
+
+  private static BigInteger rootOfUnity(final NttPrime prime, final int transformSize) {
+    return prime.rootOfUnity(Integer.numberOfTrailingZeros(transformSize));
+  }
+
+  public static BigInteger[] getPositions(final NttPrime prime, final int numShares) {
+    final var field = PrimeField.create(prime.getPrime());
+    final var root = rootOfUnity(prime, transformSize(numShares));
+    final var positions = new BigInteger[numShares];
+    var position = BigInteger.ONE;
+    for (int i = 0; i < numShares; i++) {
+      positions[i] = position;
+      position = field.multiply(position, root);
+    }
+    return positions;
+  }
+
+  public static BigInteger[] createShares(final Random secureRandom,
+                                          final NttPrime prime,
+                                          final BigInteger secret,
+                                          final int requiredShares,
+                                          final int numShares) {
+    final var secrets = new BigInteger[requiredShares];
+    secrets[0] = secret;
+    for (int i = 1; i < requiredShares; i++) {
+      secrets[i] = Shamir.createSecret(secureRandom, prime.getPrime());
+    }
+    return createShares(prime, secrets, numShares);
+  }
+
+  public static BigInteger[] createShares(final NttPrime prime, final BigInteger[] secrets, final int numShares) {
+    if (secrets.length < 1 || secrets.length > numShares || numShares > prime.getMaxShares()) {
+      throw new IllegalArgumentException(String.format(
+          "Required shares (%d) must be in the range [1, numShares] and num shares (%d) must not exceed %d.",
+          secrets.length, numShares, prime.getMaxShares()));
+    }
+    final var field = PrimeField.create(prime.getPrime());
+    final int transformSize = transformSize(numShares);
+    final var values = new BigInteger[transformSize];
+    for (int i = 0; i < secrets.length; i++) {
+      values[i] = field.mod(secrets[i]);
+    }
+    Arrays.fill(values, secrets.length, transformSize, BigInteger.ZERO);
+    transform(field, values, rootOfUnity(prime, transformSize));
+    return Arrays.copyOf(values, numShares);
+  }
+
+  // Shares at a coset r * <w^stride> reconstruct as their average, any other subset falls back to Lagrange interpolation.
+  public static BigInteger reconstructSecret(final NttPrime prime,
+                                             final int numShares,
+                                             final int[] indexes,
+                                             final BigInteger[] shares) {
+    validateShares(numShares, indexes, shares);
+    final var field = PrimeField.create(prime.getPrime());
+    final int transformSize = transformSize(numShares);
+    if (cosetStride(transformSize, indexes) > 0) {
+      var sum = BigInteger.ZERO;
+      for (final var share : shares) {
+        sum = sum.add(share);
+      }
+      return field.multiply(field.mod(sum), field.inverse(BigInteger.valueOf(shares.length)));
+    }
+    final var root = rootOfUnity(prime, transformSize);
+    final var positions = new BigInteger[indexes.length];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = root.modPow(BigInteger.valueOf(indexes[i]), prime.getPrime());
+    }
+    final var lagrangeCoefficients = field.lagrangeCoefficients(positions, positions.length);
+    var freeCoefficient = BigInteger.ZERO;
+    for (int i = 0; i < shares.length; i++) {
+      freeCoefficient = freeCoefficient.add(lagrangeCoefficients[i].multiply(shares[i]));
+    }
+    return field.mod(freeCoefficient);
+  }
+
+  // Recovers all polynomial coefficients from shares covering a coset r * <w^stride> with one inverse transform.
+  public static BigInteger[] interpolate(final NttPrime prime,
+                                         final int numShares,
+                                         final int[] indexes,
+                                         final BigInteger[] shares) {
+    validateShares(numShares, indexes, shares);
+    final int transformSize = transformSize(numShares);
+    final int stride = cosetStride(transformSize, indexes);
+    if (stride < 0) {
+      throw new IllegalArgumentException(String.format(
+          "%d share indexes must form a coset of a subgroup of order a power of two.", indexes.length));
+    }
+    final var field = PrimeField.create(prime.getPrime());
+    final int cosetSize = indexes.length;
+    final var values = new BigInteger[cosetSize];
+    for (int i = 0; i < cosetSize; i++) {
+      values[indexes[i] / stride] = field.mod(shares[i]);
+    }
+    final var root = rootOfUnity(prime, transformSize);
+    final var cosetRoot = root.modPow(BigInteger.valueOf(stride), prime.getPrime());
+    transform(field, values, field.inverse(cosetRoot));
+    // Undo the coset shift f(w^r * X) along with the 1 / M scaling of the inverse transform.
+    final var inverseShift = field.inverse(root.modPow(BigInteger.valueOf(indexes[0] % stride), prime.getPrime()));
+    var scale = field.inverse(BigInteger.valueOf(cosetSize));
+    for (int i = 0; i < cosetSize; i++) {
+      values[i] = field.multiply(values[i], scale);
+      scale = field.multiply(scale, inverseShift);
+    }
+    return values;
+  }
+
+  private static void validateShares(final int numShares, final int[] indexes, final BigInteger[] shares) {
+    if (indexes.length == 0 || indexes.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected a non-empty set of shares, one for each index, but was given %d indexes and %d shares.",
+          indexes.length, shares.length));
+    }
+    for (final int index : indexes) {
+      if (index < 0 || index >= numShares) {
+        throw new IllegalArgumentException(String.format(
+            "Share index %d must be in the range [0, %d).", index, numShares));
+      }
+    }
+  }
+
+  // Returns N / M if the M distinct indexes are all congruent modulo N / M, otherwise -1.
+  static int cosetStride(final int transformSize, final int[] indexes) {
+    final int cosetSize = indexes.length;
+    if (Integer.bitCount(cosetSize) != 1 || cosetSize > transformSize) {
+      return -1;
+    }
+    final int stride = transformSize / cosetSize;
+    final int offset = indexes[0] % stride;
+    final var seen = new boolean[cosetSize];
+    for (final int index : indexes) {
+      if (index % stride != offset || seen[index / stride]) {
+        return -1;
+      }
+      seen[index / stride] = true;
+    }
+    return stride;
+  }
+
+  // In place iterative radix-2 transform, values must be reduced and their length a power of two.
+  static void transform(final PrimeField field, final BigInteger[] values, final BigInteger root) {
+    final int size = values.length;
+    for (int i = 1, j = 0; i < size; i++) {
+      int bit = size >> 1;
+      for (; (j & bit) != 0; bit >>= 1) {
+        j ^= bit;
+      }
+      j ^= bit;
+      if (i < j) {
+        final var swap = values[i];
+        values[i] = values[j];
+        values[j] = swap;
+      }
+    }
+    final var twiddles = new BigInteger[Math.max(1, size >> 1)];
+    twiddles[0] = BigInteger.ONE;
+    for (int i = 1; i < twiddles.length; i++) {
+      twiddles[i] = field.multiply(twiddles[i - 1], root);
+    }
+    for (int length = 2; length <= size; length <<= 1) {
+      final int half = length >> 1;
+      final int step = size / length;
+      for (int start = 0; start < size; start += length) {
+        for (int j = 0, t = 0; j < half; j++, t += step) {
+          final var u = values[start + j];
+          final var v = field.multiply(values[start + j + half], twiddles[t]);
+          values[start + j] = field.add(u, v);
+          values[start + j + half] = field.subtract(u, v);
+        }
+      }
+    }
+  }
+}
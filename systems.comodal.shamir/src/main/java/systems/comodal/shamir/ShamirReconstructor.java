@@ -0,0 +1,115 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public final class ShamirReconstructor {
+
+  private final PrimeField field;
+  private BigInteger[] positions;
+  // Newton form: p(x) = a_0 + a_1 (x - x_0) + a_2 (x - x_0)(x - x_1) + ...
+  private BigInteger[] newtonCoefficients;
+  private int numShares;
+  // prod_i (0 - x_i) over the shares offered so far.
+  private BigInteger zeroProduct;
+  private BigInteger secret;
+
+  private ShamirReconstructor(final PrimeField field, final int capacity) {
+    this.field = field;
+    this.positions = new BigInteger[capacity];
+    this.newtonCoefficients = new BigInteger[capacity];
+    this.zeroProduct = BigInteger.ONE;
+    this.secret = BigInteger.ZERO;
+  }
+
+  public static ShamirReconstructor create(final BigInteger prime) {
+    return create(prime, 8);
+  }
+
+  public static ShamirReconstructor create(final BigInteger prime, final int expectedShares) {
+    return new ShamirReconstructor(PrimeField.create(prime), Math.max(1, expectedShares));
+  }
+
+  public BigInteger getPrime() {
+    return field.prime;
+  }
+
+  public synchronized int getNumShares() {
+    return numShares;
+  }
+
+  public synchronized BigInteger[] getPositions() {
+    return Arrays.copyOf(positions, numShares);
+  }
+
+  public ShamirReconstructor offer(final int position, final BigInteger share) {
+    return offer(BigInteger.valueOf(position), share);
+  }
+
+  // O(k) per share with a single inversion: a_m = (y - p(x)) / prod_{i < m} (x - x_i).
+  public synchronized ShamirReconstructor offer(final BigInteger position, final BigInteger share) {
+    final var x = field.mod(position);
+    var product = BigInteger.ONE;
+    for (int i = 0; i < numShares; i++) {
+      product = field.multiply(product, field.subtract(x, positions[i]));
+    }
+    if (product.signum() == 0) {
+      throw new IllegalArgumentException("Duplicate share position " + position);
+    }
+    var value = BigInteger.ZERO;
+    for (int i = numShares - 1; i >= 0; i--) {
+      value = field.mod(value.multiply(x.subtract(positions[i])).add(newtonCoefficients[i]));
+    }
+    final var coefficient = field.multiply(field.subtract(field.mod(share), value), field.inverse(product));
+    if (numShares == positions.length) {
+      final int capacity = numShares << 1;
+      positions = Arrays.copyOf(positions, capacity);
+      newtonCoefficients = Arrays.copyOf(newtonCoefficients, capacity);
+    }
+    positions[numShares] = x;
+    newtonCoefficients[numShares++] = coefficient;
+    secret = field.add(secret, field.multiply(coefficient, zeroProduct));
+    zeroProduct = field.multiply(zeroProduct, field.subtract(BigInteger.ZERO, x));
+    return this;
+  }
+
+  // The free coefficient of the polynomial through every share offered so far, O(1).
+  public synchronized BigInteger getSecret() {
+    return secret;
+  }
+
+  // Expands the Newton form into monomial coefficients in O(k^2), use getSecret() if only the free coefficient is needed.
+  public synchronized BigInteger[] getCoefficients() {
+    final var coefficients = new BigInteger[numShares];
+    if (numShares == 0) {
+      return coefficients;
+    }
+    Arrays.fill(coefficients, BigInteger.ZERO);
+    coefficients[0] = newtonCoefficients[numShares - 1];
+    for (int i = numShares - 2, degree = 0; i >= 0; i--, degree++) {
+      // c(X) = c(X) * (X - x_i) + a_i
+      final var position = positions[i];
+      for (int j = degree + 1; j > 0; j--) {
+        coefficients[j] = field.subtract(coefficients[j - 1], field.multiply(coefficients[j], position));
+      }
+      coefficients[0] = field.subtract(newtonCoefficients[i], field.multiply(coefficients[0], position));
+    }
+    return coefficients;
+  }
+
+  public synchronized ShamirReconstructor clear() {
+    Arrays.fill(positions, 0, numShares, null);
+    Arrays.fill(newtonCoefficients, 0, numShares, null);
+    numShares = 0;
+    zeroProduct = BigInteger.ONE;
+    secret = BigInteger.ZERO;
+    return this;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "{\"_class\":\"ShamirReconstructor\", " +
+        "\"prime\":" + field.prime + ", " +
+        "\"positions\":" + Arrays.toString(getPositions()) + "}";
+  }
+}
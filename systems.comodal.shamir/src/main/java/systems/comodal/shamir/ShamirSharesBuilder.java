@@ -2,9 +2,12 @@ package systems.comodal.shamir;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import static systems.comodal.shamir.Shamir.createMersennePrimeFromExponent;
 import static systems.comodal.shamir.Shamir.createSecret;
@@ -148,11 +151,32 @@ public final class ShamirSharesBuilder {
     throw new IllegalStateException("Num shares must be set and greater than 0.");
   }
 
+  public void validateShares(final BigInteger[] shares) {
+    Shamir.validateShares(secrets[0], prime, secrets.length, shares);
+  }
+
   @SuppressWarnings("unchecked")
   public void validateShareCombinations(final BigInteger[] shares) {
     Shamir.validateShareCombinations(secrets[0], prime, secrets.length, shares);
   }
 
+  public void validateShareCombinations(final BigInteger[] shares, final ForkJoinPool pool) {
+    Shamir.validateShareCombinations(secrets[0], prime, secrets.length, shares, pool);
+  }
+
+  public BigInteger validateShareCombinations(final BigInteger[] shares,
+                                              final BigInteger fromRank,
+                                              final BigInteger toRank,
+                                              final long checkpointInterval,
+                                              final Consumer<BigInteger> checkpoint) {
+    return Shamir.validateShareCombinations(secrets[0], prime, secrets.length, shares, fromRank, toRank, checkpointInterval, checkpoint);
+  }
+
+  public long validateShareSamples(final BigInteger[] shares, final long numSamples, final Duration timeBudget) {
+    initSecureRandom();
+    return Shamir.validateShareSamples(secrets[0], prime, secrets.length, shares, secureRandom, numSamples, timeBudget);
+  }
+
   @Override
   public String toString() {
     return "{\"_class\":\"ShamirSharesBuilder\", " +
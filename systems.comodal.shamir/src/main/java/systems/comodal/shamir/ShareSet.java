@@ -0,0 +1,93 @@
+package systems.comodal.shamir;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public final class ShareSet {
+
+  private int[] positions;
+  private BigInteger[] shares;
+  private int numShares;
+
+  public ShareSet() {
+    this(8);
+  }
+
+  public ShareSet(final int capacity) {
+    this.positions = new int[capacity];
+    this.shares = new BigInteger[capacity];
+  }
+
+  public static ShareSet of(final int[] positions, final BigInteger[] shares) {
+    if (positions.length != shares.length) {
+      throw new IllegalArgumentException(String.format(
+          "Expected one share for each of the %d positions, but was given %d.", positions.length, shares.length));
+    }
+    final var shareSet = new ShareSet(Math.max(1, positions.length));
+    for (int i = 0; i < positions.length; i++) {
+      shareSet.add(positions[i], shares[i]);
+    }
+    return shareSet;
+  }
+
+  public int size() {
+    return numShares;
+  }
+
+  public int getPosition(final int index) {
+    return positions[index];
+  }
+
+  public BigInteger getShare(final int index) {
+    return shares[index];
+  }
+
+  public int[] getPositions() {
+    return Arrays.copyOf(positions, numShares);
+  }
+
+  public BigInteger[] getShares() {
+    return Arrays.copyOf(shares, numShares);
+  }
+
+  public ShareSet add(final int position, final BigInteger share) {
+    for (int i = 0; i < numShares; i++) {
+      if (positions[i] == position) {
+        throw new IllegalArgumentException("Duplicate share position " + position);
+      }
+    }
+    if (numShares == positions.length) {
+      final int capacity = Math.max(8, numShares << 1);
+      positions = Arrays.copyOf(positions, capacity);
+      shares = Arrays.copyOf(shares, capacity);
+    }
+    positions[numShares] = position;
+    shares[numShares++] = share;
+    return this;
+  }
+
+  public ShareSet clear() {
+    Arrays.fill(shares, 0, numShares, null);
+    numShares = 0;
+    return this;
+  }
+
+  public BigInteger reconstructSecret(final BigInteger prime) {
+    return Shamir.reconstructSecret(positions, shares, numShares, prime);
+  }
+
+  public BigInteger repairShare(final int targetPosition, final BigInteger prime) {
+    return Shamir.repairShares(new int[]{targetPosition}, getPositions(), getShares(), prime)[0];
+  }
+
+  public BigInteger[] repairShares(final int[] targetPositions, final BigInteger prime) {
+    return Shamir.repairShares(targetPositions, getPositions(), getShares(), prime);
+  }
+
+  @Override
+  public String toString() {
+    return "{\"_class\":\"ShareSet\", " +
+        "\"positions\":" + Arrays.toString(getPositions()) + ", " +
+        "\"shares\":" + Arrays.toString(getShares()) + "}";
+  }
+}
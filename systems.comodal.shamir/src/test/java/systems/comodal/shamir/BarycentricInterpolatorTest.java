@@ -0,0 +1,87 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class BarycentricInterpolatorTest {
+
+  @Test
+  void testEvaluateAtArbitraryPoints() {
+    for (final var prime : new BigInteger[]{Shamir.createMersennePrimeFromExponent(521), valueOf(73_939_133)}) {
+      final var sharesBuilder = Shamir.buildShares()
+          .prime(prime)
+          .numRequiredShares(4)
+          .numShares(9)
+          .initSecrets();
+      final var shares = sharesBuilder.createShares();
+      final var coordinates = Shamir.createCoordinates(shares);
+
+      final var interpolator = BarycentricInterpolator.create(prime, Arrays.copyOfRange(coordinates, 2, 6));
+      assertEquals(prime, interpolator.getPrime());
+      assertEquals(4, interpolator.getNumPoints());
+      assertNotNull(interpolator.toString());
+      assertEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+      for (int i = 0; i < shares.length; i++) {
+        assertEquals(shares[i], interpolator.evaluate(valueOf(i + 1)));
+      }
+      assertEquals(shares[0], interpolator.evaluate(prime.add(BigInteger.ONE)));
+
+      final var points = new BigInteger[shares.length + 1];
+      for (int i = 0; i < points.length; i++) {
+        points[i] = valueOf(i);
+      }
+      final var values = interpolator.evaluate(points);
+      assertEquals(sharesBuilder.getSecret(), values[0]);
+      assertArrayEquals(shares, Arrays.copyOfRange(values, 1, values.length));
+    }
+  }
+
+  @Test
+  void testAddAndRemoveShares() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var sharesBuilder = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(3)
+        .numShares(20)
+        .initSecrets();
+    final var shares = sharesBuilder.createShares();
+
+    final var interpolator = BarycentricInterpolator.create(prime);
+    assertEquals(BigInteger.ZERO, interpolator.reconstructSecret());
+    interpolator.addShare(valueOf(7), shares[6]);
+    assertEquals(shares[6], interpolator.reconstructSecret());
+    interpolator.addShare(valueOf(2), shares[1]);
+    assertNotEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+    interpolator.addShare(valueOf(11), shares[10]);
+    assertEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+
+    for (int i = 12; i <= 20; i++) {
+      interpolator.addShare(valueOf(i), shares[i - 1]);
+      assertEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+    }
+    assertEquals(12, interpolator.getNumPoints());
+    assertEquals(shares[0], interpolator.evaluate(BigInteger.ONE));
+
+    for (int i = 20; i >= 12; i--) {
+      interpolator.removeShare(valueOf(i));
+      assertEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+    }
+    interpolator.removeShare(valueOf(7));
+    assertArrayEquals(new BigInteger[]{valueOf(2), valueOf(11)}, interpolator.getPositions());
+    assertArrayEquals(new BigInteger[]{shares[1], shares[10]}, interpolator.getShares());
+    interpolator.addShare(valueOf(5), shares[4]);
+    assertEquals(sharesBuilder.getSecret(), interpolator.reconstructSecret());
+    assertEquals(shares[6], interpolator.evaluate(valueOf(7)));
+
+    assertThrows(IllegalArgumentException.class, () -> interpolator.addShare(valueOf(5), shares[4]));
+    assertThrows(IllegalArgumentException.class, () -> interpolator.removeShare(valueOf(7)));
+    final var duplicates = Shamir.createCoordinates(new BigInteger[]{shares[0], shares[0]});
+    duplicates[1] = duplicates[0];
+    assertThrows(IllegalArgumentException.class, () -> BarycentricInterpolator.create(prime, duplicates));
+  }
+}
@@ -0,0 +1,103 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class CombinationsTest {
+
+  @Test
+  void testUnrankMatchesLexicographicOrder() {
+    for (int n = 1; n <= 9; n++) {
+      for (int k = 1; k <= n; k++) {
+        final var combination = Combinations.unrank(0, n, k);
+        final long count = Combinations.count(n, k);
+        for (long rank = 0; rank < count; rank++) {
+          assertArrayEquals(combination, Combinations.unrank(rank, n, k));
+          assertEquals(rank < count - 1, Combinations.next(combination, n));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testFirstAndLast() {
+    assertArrayEquals(new int[]{0, 1, 2}, Combinations.unrank(0, 30, 3));
+    assertArrayEquals(new int[]{27, 28, 29}, Combinations.unrank(Combinations.count(30, 3) - 1, 30, 3));
+    final var combination = new int[]{0, 1, 29};
+    assertTrue(Combinations.next(combination, 30));
+    assertArrayEquals(new int[]{0, 2, 3}, combination);
+  }
+
+  @Test
+  void testBigIntegerRanks() {
+    for (int n = 1; n <= 12; n++) {
+      for (int k = 1; k <= n; k++) {
+        final long count = Combinations.count(n, k);
+        assertEquals(BigInteger.valueOf(count), Combinations.countExact(n, k));
+        for (long rank = 0; rank < count; rank++) {
+          assertArrayEquals(Combinations.unrank(rank, n, k), Combinations.unrank(BigInteger.valueOf(rank), n, k));
+        }
+      }
+    }
+    final var count = Combinations.countExact(100, 50);
+    assertEquals(new BigInteger("100891344545564193334812497256"), count);
+    final var last = new int[50];
+    for (int i = 0; i < 50; i++) {
+      last[i] = 50 + i;
+    }
+    assertArrayEquals(last, Combinations.unrank(count.subtract(BigInteger.ONE), 100, 50));
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < 100; i++) {
+      final var rank = Combinations.randomRank(random, count);
+      assertTrue(rank.signum() >= 0 && rank.compareTo(count) < 0);
+      final var combination = Combinations.unrank(rank, 100, 50);
+      for (int j = 1; j < 50; j++) {
+        assertTrue(combination[j - 1] < combination[j]);
+      }
+      assertTrue(combination[49] < 100);
+    }
+    assertThrows(IllegalArgumentException.class, () -> Combinations.unrank(count, 100, 50));
+    assertThrows(IllegalArgumentException.class, () -> Combinations.unrank(BigInteger.ONE.negate(), 100, 50));
+  }
+
+  @Test
+  void testRevolvingDoorVisitsEachCombinationWithOneSwap() {
+    for (int n = 1; n <= 10; n++) {
+      for (int k = 1; k <= n; k++) {
+        final var combination = new int[k];
+        for (int i = 0; i < k; i++) {
+          combination[i] = i;
+        }
+        final var visited = new HashSet<Long>();
+        var previous = combination.clone();
+        long count = 0;
+        do {
+          long mask = 0;
+          for (int i = 0; i < k; i++) {
+            if (i > 0) {
+              assertTrue(combination[i - 1] < combination[i]);
+            }
+            mask |= 1L << combination[i];
+          }
+          assertTrue(visited.add(mask));
+          long previousMask = 0;
+          for (final int index : previous) {
+            previousMask |= 1L << index;
+          }
+          assertTrue(count == 0 || Long.bitCount(mask ^ previousMask) == 2);
+          previous = combination.clone();
+          count++;
+        } while (Combinations.nextRevolvingDoor(combination, n));
+        assertEquals(Combinations.count(n, k), count);
+      }
+    }
+    final var combination = new int[]{0, 1, 2};
+    assertTrue(Combinations.nextRevolvingDoor(combination, 5));
+    assertArrayEquals(new int[]{0, 2, 3}, combination);
+  }
+}
@@ -0,0 +1,42 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class IncrementalLagrangeTest {
+
+  @Test
+  void testMatchesFullInterpolation() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{valueOf(73_939_133), ShamirMersenne61.BIG_PRIME, Shamir.createMersennePrimeFromExponent(521)}) {
+      final int numShares = 12;
+      final var shares = new BigInteger[numShares];
+      for (int i = 0; i < numShares; i++) {
+        shares[i] = Shamir.createSecret(random, prime);
+      }
+      for (int k = 1; k <= numShares; k++) {
+        final var combination = Combinations.unrank(0, numShares, k);
+        final var lagrange = IncrementalLagrange.create(prime, shares, combination);
+        for (int step = 0; step < 32; step++) {
+          final var target = random.ints(0, numShares).distinct().limit(k).toArray();
+          lagrange.moveTo(target);
+          final var positions = new int[k];
+          final var selected = new BigInteger[k];
+          for (int i = 0; i < k; i++) {
+            positions[i] = target[i] + 1;
+            selected[i] = shares[target[i]];
+          }
+          final var expected = Shamir.reconstructSecret(positions, selected, prime);
+          assertEquals(expected, lagrange.secret());
+          assertTrue(lagrange.isSecret(expected));
+          assertFalse(lagrange.isSecret(expected.add(prime)));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class LagrangeReconstructorTest {
+
+  @Test
+  void testReconstructManySecretsFromOneQuorum() {
+    for (final var prime : new BigInteger[]{Shamir.createMersennePrimeFromExponent(521), valueOf(73_939_133)}) {
+      final var sharesBuilder = Shamir.buildShares()
+          .prime(prime)
+          .numRequiredShares(3)
+          .numShares(5);
+      final var reconstructor = LagrangeReconstructor.create(prime, valueOf(5), valueOf(1), valueOf(3));
+      assertEquals(prime, reconstructor.getPrime());
+      assertEquals(3, reconstructor.getNumPositions());
+      assertArrayEquals(new BigInteger[]{valueOf(5), valueOf(1), valueOf(3)}, reconstructor.getPositions());
+      assertNotNull(reconstructor.toString());
+
+      for (int i = 0; i < 32; i++) {
+        final var shares = sharesBuilder.initSecrets().createShares();
+        assertEquals(sharesBuilder.getSecret(), reconstructor.reconstructSecret(shares[4], shares[0], shares[2]));
+        final var coordinates = Map.of(valueOf(3), shares[2], valueOf(5), shares[4], valueOf(1), shares[0]);
+        assertEquals(sharesBuilder.getSecret(), reconstructor.reconstructSecret(coordinates));
+      }
+
+      assertThrows(IllegalArgumentException.class, () -> reconstructor.reconstructSecret(BigInteger.ONE, BigInteger.TWO));
+      assertThrows(IllegalArgumentException.class, () -> reconstructor.reconstructSecret(Map.of(valueOf(1), BigInteger.ONE)));
+      assertThrows(IllegalArgumentException.class, () -> reconstructor.reconstructSecret(Map.of(
+          valueOf(1), BigInteger.ONE, valueOf(2), BigInteger.ONE, valueOf(3), BigInteger.ONE)));
+    }
+    assertThrows(ArithmeticException.class, () -> LagrangeReconstructor.create(valueOf(73_939_133), valueOf(2), valueOf(2)));
+  }
+
+  @Test
+  void testCache() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var reconstructor = LagrangeReconstructor.cached(prime, valueOf(1), valueOf(3), valueOf(5));
+    assertSame(reconstructor, LagrangeReconstructor.cached(prime, valueOf(1), valueOf(3), valueOf(5)));
+    final int cacheSize = LagrangeReconstructor.cacheSize();
+    final var reordered = LagrangeReconstructor.cached(prime, valueOf(5), valueOf(3), valueOf(1));
+    assertEquals(cacheSize, LagrangeReconstructor.cacheSize());
+    assertArrayEquals(new BigInteger[]{valueOf(5), valueOf(3), valueOf(1)}, reordered.getPositions());
+    assertNotSame(reconstructor, LagrangeReconstructor.cached(prime, valueOf(1), valueOf(3), valueOf(6)));
+    assertNotSame(reconstructor, LagrangeReconstructor.cached(Shamir.createMersennePrimeFromExponent(89), valueOf(1), valueOf(3), valueOf(5)));
+
+    final var shares = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(3)
+        .numShares(5)
+        .initSecrets();
+    final var secretShares = shares.createShares();
+    assertEquals(shares.getSecret(), reconstructor.reconstructSecret(secretShares[0], secretShares[2], secretShares[4]));
+    assertEquals(shares.getSecret(), reordered.reconstructSecret(secretShares[4], secretShares[2], secretShares[0]));
+
+    for (int i = 0; i <= LagrangeReconstructor.MAX_CACHED_RECONSTRUCTORS; i++) {
+      LagrangeReconstructor.cached(prime, valueOf(i + 1), valueOf(i + 2));
+    }
+    assertEquals(LagrangeReconstructor.MAX_CACHED_RECONSTRUCTORS, LagrangeReconstructor.cacheSize());
+  }
+
+  @Test
+  void testBatchReconstruction() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final int numSecrets = LagrangeReconstructor.ROWS_PER_TASK * 3 + 17;
+    final var positions = new BigInteger[]{valueOf(2), valueOf(5), valueOf(9), valueOf(11)};
+    final var secrets = new BigInteger[numSecrets];
+    final var shares = new BigInteger[numSecrets][];
+    for (int s = 0; s < numSecrets; s++) {
+      final var coefficients = Shamir.createSecrets(random, prime, positions.length);
+      final var allShares = Shamir.createShares(prime, coefficients, 11);
+      secrets[s] = coefficients[0];
+      shares[s] = new BigInteger[]{allShares[1], allShares[4], allShares[8], allShares[10]};
+    }
+    final var reconstructor = LagrangeReconstructor.create(prime, positions);
+    assertArrayEquals(secrets, reconstructor.reconstructSecrets(shares));
+    assertArrayEquals(secrets, reconstructor.reconstructSecrets(shares, ForkJoinPool.commonPool()));
+    final var pool = new ForkJoinPool(3);
+    try {
+      assertArrayEquals(secrets, reconstructor.reconstructSecrets(shares, pool));
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(0, reconstructor.reconstructSecrets(new BigInteger[0][]).length);
+    shares[numSecrets - 1] = new BigInteger[]{BigInteger.ONE};
+    assertThrows(IllegalArgumentException.class, () -> reconstructor.reconstructSecrets(shares));
+    assertThrows(IllegalArgumentException.class, () -> reconstructor.reconstructSecrets(shares, ForkJoinPool.commonPool()));
+  }
+}
@@ -0,0 +1,177 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class LimbFieldTest {
+
+  private static final BigInteger[] MONTGOMERY_PRIMES = new BigInteger[]{
+      valueOf(73_939_133),
+      valueOf(Long.MAX_VALUE).nextProbablePrime(),
+      // NIST P-256 and P-384 field primes.
+      new BigInteger("ffffffff00000001000000000000000000000000ffffffffffffffffffffffff", 16),
+      new BigInteger("fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffeffffffff0000000000000000ffffffff", 16),
+      BigInteger.ONE.shiftLeft(255).nextProbablePrime(),
+      BigInteger.ONE.shiftLeft(383).add(valueOf(31)).nextProbablePrime()
+  };
+
+  @Test
+  void testMersennePrime521Arithmetic() {
+    validateArithmetic(new MersennePrime521());
+  }
+
+  @Test
+  void testMersennePrime521Shares() {
+    validateShares(new MersennePrime521());
+  }
+
+  @Test
+  void testMontgomeryArithmetic() {
+    for (final var prime : MONTGOMERY_PRIMES) {
+      validateArithmetic(new MontgomeryField(prime));
+    }
+  }
+
+  @Test
+  void testMontgomeryShares() {
+    for (final var prime : MONTGOMERY_PRIMES) {
+      assertTrue(LimbField.create(prime) instanceof MontgomeryField);
+      validateShares(new MontgomeryField(prime));
+    }
+  }
+
+  @Test
+  void testCreate() {
+    assertTrue(LimbField.create(MersennePrime521.PRIME) instanceof MersennePrime521);
+    assertNull(LimbField.create(Shamir.createMersennePrimeFromExponent(127)));
+    assertNull(LimbField.create(BigInteger.TWO));
+  }
+
+  @Test
+  void testRoutingThresholds() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{MONTGOMERY_PRIMES[3], MersennePrime521.PRIME}) {
+      for (final int numRequired : new int[]{LimbField.MIN_SHARE_COEFFICIENTS - 1, LimbField.MIN_RECONSTRUCTION_POINTS}) {
+        final var secrets = Shamir.createSecrets(random, prime, numRequired);
+        final var shares = Shamir.createShares(prime, secrets, numRequired * 2);
+        assertArrayEquals(shares, LimbField.create(prime).createShares(secrets, shares.length));
+        final var positions = new int[numRequired];
+        final var selected = new BigInteger[numRequired];
+        for (int i = 0; i < numRequired; i++) {
+          positions[i] = 2 * i + 1;
+          selected[i] = shares[2 * i];
+        }
+        assertEquals(secrets[0], Shamir.reconstructSecret(positions, selected, prime));
+        assertEquals(secrets[0], LimbField.create(prime).reconstructSecret(positions, selected, numRequired));
+      }
+    }
+  }
+
+  private static void validateArithmetic(final LimbField field) {
+    final var prime = field.prime;
+    final var random = ThreadLocalRandom.current();
+    final var a = field.newElement();
+    final var b = field.newElement();
+    final var result = field.newElement();
+    final var edgeValues = new BigInteger[]{
+        BigInteger.ZERO, BigInteger.ONE, BigInteger.TWO, prime.subtract(BigInteger.ONE), prime.subtract(BigInteger.TWO), prime.shiftRight(1)
+    };
+    for (int i = 0; i < 2_000; i++) {
+      final var bigA = i < edgeValues.length * edgeValues.length
+          ? edgeValues[i % edgeValues.length]
+          : new BigInteger(prime.bitLength() + 8, random).mod(prime);
+      final var bigB = i < edgeValues.length * edgeValues.length
+          ? edgeValues[i / edgeValues.length]
+          : new BigInteger(prime.bitLength() + 8, random).mod(prime);
+      field.toField(bigA, a);
+      field.toField(bigB, b);
+      assertEquals(bigA, field.toBigInteger(a));
+
+      field.multiply(a, b, result);
+      assertEquals(bigA.multiply(bigB).mod(prime), field.toBigInteger(result));
+      field.add(a, b, result);
+      assertEquals(bigA.add(bigB).mod(prime), field.toBigInteger(result));
+      field.subtract(a, b, result);
+      assertEquals(bigA.subtract(bigB).mod(prime), field.toBigInteger(result));
+      final long word = i % 3 == 0 ? random.nextInt(Integer.MAX_VALUE) : i % 64;
+      field.multiplyWord(a, word, result);
+      assertEquals(bigA.multiply(valueOf(word)).mod(prime), field.toBigInteger(result));
+      field.multiplySigned(a, -word, result);
+      assertEquals(bigA.multiply(valueOf(-word)).mod(prime), field.toBigInteger(result));
+      if (bigA.signum() != 0 && i % 10 == 0) {
+        field.inverse(a, result);
+        assertEquals(bigA.modInverse(prime), field.toBigInteger(result));
+      }
+    }
+    final var values = new long[9][];
+    final var expectedInverses = new BigInteger[values.length];
+    for (int i = 0; i < values.length; i++) {
+      final var value = new BigInteger(prime.bitLength() - 1, random).add(BigInteger.ONE);
+      expectedInverses[i] = value.modInverse(prime);
+      values[i] = field.newElement();
+      field.toField(value, values[i]);
+    }
+    field.inverse(values, values.length);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(expectedInverses[i], field.toBigInteger(values[i]));
+    }
+
+    field.toField(prime, a);
+    assertTrue(LimbField.isZero(a));
+    field.toField(valueOf(-1), a);
+    assertEquals(prime.subtract(BigInteger.ONE), field.toBigInteger(a));
+    field.toField(prime.multiply(prime).add(BigInteger.TWO), a);
+    assertEquals(BigInteger.TWO, field.toBigInteger(a));
+    assertThrows(ArithmeticException.class, () -> field.inverse(field.newElement(), field.newElement()));
+  }
+
+  private static void validateShares(final LimbField field) {
+    final var prime = field.prime;
+    final var sharesBuilder = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(4)
+        .numShares(7)
+        .initSecrets();
+    final var secrets = new BigInteger[sharesBuilder.getNumRequiredShares()];
+    secrets[0] = sharesBuilder.getSecret();
+    for (int i = 1; i < secrets.length; i++) {
+      secrets[i] = Shamir.createSecret(ThreadLocalRandom.current(), prime);
+    }
+    final var shares = field.createShares(secrets, sharesBuilder.getNumShares());
+    for (int i = 0; i < shares.length; i++) {
+      final var position = valueOf(i + 1);
+      var expected = BigInteger.ZERO;
+      for (int exp = 0; exp < secrets.length; exp++) {
+        expected = expected.add(secrets[exp].multiply(position.pow(exp)));
+      }
+      assertEquals(expected.mod(prime), shares[i]);
+    }
+    final var coordinates = Map.of(
+        valueOf(2), shares[1],
+        valueOf(4), shares[3],
+        valueOf(5), shares[4],
+        valueOf(7), shares[6]);
+    assertEquals(secrets[0], field.reconstructSecret(coordinates.entrySet()));
+    assertEquals(secrets[0], field.reconstructSecret(new int[]{7, 2, 5, 4}, new BigInteger[]{shares[6], shares[1], shares[4], shares[3]}, 4));
+
+    // A position beyond the int range takes the field element Lagrange path.
+    final var farPosition = BigInteger.ONE.shiftLeft(40).add(BigInteger.TWO);
+    var farShare = BigInteger.ZERO;
+    for (int exp = secrets.length - 1; exp >= 0; exp--) {
+      farShare = farShare.multiply(farPosition).add(secrets[exp]).mod(prime);
+    }
+    final var farCoordinates = Map.of(
+        valueOf(1), shares[0],
+        farPosition, farShare,
+        valueOf(3), shares[2],
+        valueOf(6), shares[5]);
+    assertEquals(secrets[0], field.reconstructSecret(farCoordinates.entrySet()));
+    Shamir.validateShareCombinations(secrets[0], prime, secrets.length, shares);
+  }
+}
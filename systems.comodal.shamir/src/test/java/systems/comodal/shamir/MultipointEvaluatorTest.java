@@ -0,0 +1,85 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class MultipointEvaluatorTest {
+
+  private static final BigInteger[] PRIMES = new BigInteger[]{
+      valueOf(73_939_133),
+      Shamir.createMersennePrimeFromExponent(127),
+      new BigInteger("115792089210356248762697446949407573530086143415290314195533631308867097853951")
+  };
+
+  private static BigInteger[] horner(final BigInteger prime, final BigInteger[] coefficients, final int numShares) {
+    final var shares = new BigInteger[numShares];
+    for (int x = 1; x <= numShares; x++) {
+      var result = BigInteger.ZERO;
+      for (int exp = coefficients.length - 1; exp >= 0; exp--) {
+        result = result.multiply(valueOf(x)).add(coefficients[exp]).mod(prime);
+      }
+      shares[x - 1] = result;
+    }
+    return shares;
+  }
+
+  @Test
+  void testMatchesHorner() {
+    final var random = ThreadLocalRandom.current();
+    final int[][] shapes = new int[][]{{1, 1}, {1, 7}, {3, 200}, {64, 64}, {65, 130}, {100, 1_000}, {300, 301}, {700, 2_500}};
+    for (final var prime : PRIMES) {
+      final var evaluator = new MultipointEvaluator(PrimeField.create(prime));
+      for (final var shape : shapes) {
+        final var secrets = Shamir.createSecrets(random, prime, shape[0]);
+        assertArrayEquals(horner(prime, secrets, shape[1]), evaluator.createShares(secrets, shape[1]),
+            () -> prime + " " + shape[0] + " " + shape[1]);
+      }
+    }
+  }
+
+  @Test
+  void testUnreducedSecrets() {
+    final var prime = PRIMES[0];
+    final var secrets = new BigInteger[]{prime.negate(), prime.add(BigInteger.TWO), prime.shiftLeft(70).add(BigInteger.ONE)};
+    assertArrayEquals(horner(prime, secrets, 50), new MultipointEvaluator(PrimeField.create(prime)).createShares(secrets, 50));
+  }
+
+  @Test
+  void testPolynomialMultiply() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : PRIMES) {
+      final var evaluator = new MultipointEvaluator(PrimeField.create(prime));
+      for (final int length : new int[]{1, 2, MultipointEvaluator.KRONECKER_THRESHOLD, 100}) {
+        final var a = Shamir.createSecrets(random, prime, length);
+        final var b = Shamir.createSecrets(random, prime, length + 3);
+        final var product = evaluator.multiply(a, b);
+        assertEquals(a.length + b.length - 1, product.length);
+        for (int k = 0; k < product.length; k++) {
+          var expected = BigInteger.ZERO;
+          for (int i = Math.max(0, k - b.length + 1); i <= Math.min(k, a.length - 1); i++) {
+            expected = expected.add(a[i].multiply(b[k - i]));
+          }
+          assertEquals(expected.mod(prime), product[k]);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testHeuristic() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    assertFalse(MultipointEvaluator.isFasterThanHorner(prime, 3));
+    assertFalse(MultipointEvaluator.isFasterThanHorner(prime, MultipointEvaluator.MIN_COEFFICIENTS - 1));
+    assertTrue(MultipointEvaluator.isFasterThanHorner(prime, MultipointEvaluator.MIN_COEFFICIENTS));
+    assertFalse(MultipointEvaluator.isFasterThanHorner(Shamir.createMersennePrimeFromExponent(521), MultipointEvaluator.MIN_COEFFICIENTS));
+
+    final var secrets = Shamir.createSecrets(ThreadLocalRandom.current(), prime, MultipointEvaluator.MIN_COEFFICIENTS);
+    assertArrayEquals(horner(prime, secrets, MultipointEvaluator.MIN_COEFFICIENTS + 10),
+        Shamir.createShares(prime, secrets, MultipointEvaluator.MIN_COEFFICIENTS + 10));
+  }
+}
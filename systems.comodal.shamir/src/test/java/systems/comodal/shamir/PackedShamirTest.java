@@ -0,0 +1,65 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class PackedShamirTest {
+
+  @Test
+  void testPackedRoundTrip() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{valueOf(73_939_133), ShamirMersenne61.BIG_PRIME, Shamir.createMersennePrimeFromExponent(521)}) {
+      for (final int[] shape : new int[][]{{1, 2, 3}, {4, 7, 10}, {16, 20, 40}}) {
+        final int numSecrets = shape[0];
+        final int requiredShares = shape[1];
+        final int numShares = shape[2];
+        final var secrets = Shamir.createSecrets(random, prime, numSecrets);
+        final var coefficients = PackedShamir.createCoefficients(random, prime, secrets, requiredShares, numShares);
+        assertEquals(requiredShares, coefficients.length);
+        final var shares = PackedShamir.createShares(random, prime, secrets, requiredShares, numShares);
+        assertEquals(numShares, shares.length);
+
+        final var positions = random.ints(1, numShares + 1).distinct().limit(requiredShares).toArray();
+        final var selected = new BigInteger[requiredShares];
+        for (int i = 0; i < requiredShares; i++) {
+          selected[i] = shares[positions[i] - 1];
+        }
+        assertArrayEquals(secrets, PackedShamir.reconstructSecrets(positions, selected, numSecrets, prime));
+
+        final var all = new int[numShares];
+        for (int i = 0; i < numShares; i++) {
+          all[i] = i + 1;
+        }
+        assertArrayEquals(secrets, PackedShamir.reconstructSecrets(all, shares, numSecrets, prime));
+      }
+    }
+  }
+
+  @Test
+  void testFreshRandomnessPerDeal() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var secrets = Shamir.createSecrets(random, prime, 3);
+    final var a = PackedShamir.createShares(random, prime, secrets, 5, 8);
+    final var b = PackedShamir.createShares(random, prime, secrets, 5, 8);
+    assertNotEquals(a[0], b[0]);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = valueOf(73_939_133);
+    final var secrets = new BigInteger[]{BigInteger.ONE, BigInteger.TWO};
+    assertThrows(IllegalArgumentException.class, () -> PackedShamir.createShares(random, prime, secrets, 2, 5));
+    assertThrows(IllegalArgumentException.class, () -> PackedShamir.createShares(random, prime, secrets, 6, 5));
+    assertThrows(IllegalArgumentException.class, () -> PackedShamir.createShares(random, prime, new BigInteger[0], 2, 5));
+    assertThrows(IllegalArgumentException.class, () -> PackedShamir.createShares(random, valueOf(7), secrets, 3, 5));
+    assertThrows(IllegalArgumentException.class,
+        () -> PackedShamir.reconstructSecrets(new int[]{1, 2}, new BigInteger[]{BigInteger.ONE}, 1, prime));
+  }
+}
@@ -0,0 +1,82 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class PrimeFieldTest {
+
+  private static final int[] MERSENNE_EXPONENTS = new int[]{2, 3, 5, 7, 13, 17, 19, 31, 61, 89, 107, 127, 521, 607, 1_279};
+
+  @Test
+  void testMersenneDetection() {
+    for (final int exponent : MERSENNE_EXPONENTS) {
+      assertTrue(PrimeField.create(Shamir.createMersennePrimeFromExponent(exponent)) instanceof MersennePrimeField);
+    }
+    assertFalse(PrimeField.create(BigInteger.TWO) instanceof MersennePrimeField);
+    assertFalse(PrimeField.create(valueOf(73_939_133)) instanceof MersennePrimeField);
+  }
+
+  @Test
+  void testMersenneReduction() {
+    final var random = ThreadLocalRandom.current();
+    for (final int exponent : MERSENNE_EXPONENTS) {
+      final var prime = Shamir.createMersennePrimeFromExponent(exponent);
+      final var field = PrimeField.create(prime);
+      assertEquals(BigInteger.ZERO, field.mod(prime));
+      assertEquals(BigInteger.ZERO, field.mod(prime.negate()));
+      assertEquals(BigInteger.ZERO, field.mod(prime.multiply(prime)));
+      assertEquals(prime.subtract(BigInteger.ONE), field.mod(BigInteger.ONE.negate()));
+      for (int i = 0; i < 200; i++) {
+        final var value = new BigInteger(exponent * 2 + 3, random);
+        assertEquals(value.mod(prime), field.mod(value));
+        assertEquals(value.negate().mod(prime), field.mod(value.negate()));
+        final var a = value.mod(prime);
+        final var b = new BigInteger(exponent, random).mod(prime);
+        assertEquals(a.multiply(b).mod(prime), field.multiply(a, b));
+        assertEquals(a.add(b).mod(prime), field.add(a, b));
+        assertEquals(a.subtract(b).mod(prime), field.subtract(a, b));
+      }
+    }
+  }
+
+  @Test
+  void testBatchInverse() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{valueOf(73_939_133), Shamir.createMersennePrimeFromExponent(127)}) {
+      final var field = PrimeField.create(prime);
+      final var values = new BigInteger[17];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = new BigInteger(prime.bitLength() - 1, random).add(BigInteger.ONE);
+      }
+      final var inverses = values.clone();
+      field.inverse(inverses, inverses.length - 1);
+      for (int i = 0; i < values.length - 1; i++) {
+        assertEquals(values[i].modInverse(prime), inverses[i]);
+      }
+      assertSame(values[values.length - 1], inverses[values.length - 1]);
+      values[3] = prime;
+      assertThrows(ArithmeticException.class, () -> field.inverse(values, values.length));
+    }
+  }
+
+  @Test
+  void testMersenneShares() {
+    for (final int exponent : new int[]{89, 107, 127, 607, 1_279}) {
+      final var sharesBuilder = Shamir.buildShares()
+          .mersennePrimeExponent(exponent)
+          .numRequiredShares(3)
+          .numShares(6)
+          .initSecrets();
+      final var shares = sharesBuilder.createShares();
+      sharesBuilder.validateShareCombinations(shares);
+      final var coordinates = Map.of(valueOf(6), shares[5], valueOf(2), shares[1], valueOf(4), shares[3]);
+      assertEquals(sharesBuilder.getSecret(), Shamir.reconstructSecret(coordinates, sharesBuilder.getPrime()));
+    }
+  }
+}
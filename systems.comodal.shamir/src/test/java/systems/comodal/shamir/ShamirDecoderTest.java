@@ -0,0 +1,90 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirDecoderTest {
+
+  @Test
+  void testDecodeWithCorruptShares() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{Shamir.createMersennePrimeFromExponent(127), Shamir.createMersennePrimeFromExponent(521)}) {
+      final int requiredShares = 5;
+      final int numShares = 12;
+      final var secrets = Shamir.createSecrets(random, prime, requiredShares);
+      final var shares = Shamir.createShares(prime, secrets, numShares);
+      final var positions = new int[numShares];
+      for (int i = 0; i < numShares; i++) {
+        positions[i] = i + 1;
+      }
+      for (int numCorrupt = 0; numCorrupt <= (numShares - requiredShares) / 2; numCorrupt++) {
+        final var corrupted = shares.clone();
+        final var corruptPositions = random.ints(1, numShares + 1).distinct().limit(numCorrupt).sorted().toArray();
+        for (final int position : corruptPositions) {
+          corrupted[position - 1] = corrupted[position - 1].add(BigInteger.ONE).mod(prime);
+        }
+        final var decoded = ShamirDecoder.decode(positions, corrupted, requiredShares, prime);
+        assertEquals(secrets[0], decoded.getSecret());
+        final var found = decoded.getCorruptPositions();
+        Arrays.sort(found);
+        assertArrayEquals(corruptPositions, found);
+        assertEquals(numCorrupt > 0, decoded.hasCorruptShares());
+        assertNotNull(decoded.toString());
+      }
+    }
+  }
+
+  @Test
+  void testTooManyCorruptShares() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var secrets = Shamir.createSecrets(random, prime, 3);
+    final var shares = Shamir.createShares(prime, secrets, 7);
+    final var positions = new int[]{1, 2, 3, 4, 5, 6, 7};
+    for (int i = 0; i < 3; i++) {
+      shares[i * 2] = Shamir.createSecret(random, prime);
+    }
+    assertThrows(IllegalStateException.class, () -> ShamirDecoder.decode(positions, shares, 3, prime));
+
+    assertEquals(secrets[0], ShamirDecoder.decode(new int[]{1, 2, 3}, Shamir.createShares(prime, secrets, 3), 3, prime).getSecret());
+    assertEquals(secrets[0], ShamirDecoder.decode(new int[]{1, 2, 3, 4}, Shamir.createShares(prime, secrets, 4), 3, prime).getSecret());
+    final var detectedOnly = Shamir.createShares(prime, secrets, 4);
+    detectedOnly[3] = detectedOnly[3].add(BigInteger.ONE).mod(prime);
+    assertThrows(IllegalStateException.class, () -> ShamirDecoder.decode(new int[]{1, 2, 3, 4}, detectedOnly, 3, prime));
+  }
+
+  @Test
+  void testShuffledPositions() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = valueOf(2_147_483_647);
+    final var secrets = Shamir.createSecrets(random, prime, 4);
+    final var allShares = Shamir.createShares(prime, secrets, 20);
+    final var positions = new int[]{17, 3, 9, 1, 20, 12, 6, 8, 14, 2};
+    final var shares = new BigInteger[positions.length];
+    for (int i = 0; i < positions.length; i++) {
+      shares[i] = allShares[positions[i] - 1];
+    }
+    shares[0] = shares[0].add(BigInteger.TEN).mod(prime);
+    shares[5] = BigInteger.ZERO;
+    final var decoded = ShamirDecoder.decode(positions, shares, 4, prime);
+    assertEquals(secrets[0], decoded.getSecret());
+    final var found = decoded.getCorruptPositions();
+    Arrays.sort(found);
+    assertArrayEquals(new int[]{12, 17}, found);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var prime = valueOf(73_939_133);
+    final var shares = new BigInteger[]{BigInteger.ONE, BigInteger.TWO};
+    assertThrows(IllegalArgumentException.class, () -> ShamirDecoder.decode(new int[]{1}, shares, 1, prime));
+    assertThrows(IllegalArgumentException.class, () -> ShamirDecoder.decode(new int[]{1, 2}, shares, 3, prime));
+    assertThrows(IllegalArgumentException.class, () -> ShamirDecoder.decode(new int[]{1, 1}, shares, 1, prime));
+  }
+}
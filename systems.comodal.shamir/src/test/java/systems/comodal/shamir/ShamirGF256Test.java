@@ -0,0 +1,92 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirGF256Test {
+
+  @Test
+  void testFieldArithmetic() {
+    assertEquals(0xC1, ShamirGF256.multiply(0x57, 0x83));
+    assertEquals(0xFE, ShamirGF256.multiply(0x57, 0x13));
+    for (int a = 1; a < 256; a++) {
+      assertEquals(1, ShamirGF256.multiply(a, ShamirGF256.inverse(a)));
+      assertEquals(0, ShamirGF256.multiply(a, 0));
+      assertEquals(a, ShamirGF256.multiply(1, a));
+    }
+    assertThrows(ArithmeticException.class, () -> ShamirGF256.inverse(0));
+  }
+
+  @Test
+  void testCreateAndReconstruct() {
+    final var secureRandom = new SecureRandom();
+    final var secret = "Shamir's Secret".getBytes(UTF_8);
+    final var shares = ShamirGF256.createShares(secureRandom, secret, 3, 5);
+    assertEquals(5, shares.length);
+    for (int i = 0; i < shares.length; i++) {
+      assertEquals(secret.length + 1, shares[i].length);
+      assertEquals(i + 1, shares[i][0]);
+    }
+    for (int a = 0; a < shares.length; a++) {
+      for (int b = a + 1; b < shares.length; b++) {
+        for (int c = b + 1; c < shares.length; c++) {
+          assertArrayEquals(secret, ShamirGF256.reconstructSecret(shares[c], shares[a], shares[b]));
+        }
+      }
+    }
+    assertArrayEquals(secret, ShamirGF256.reconstructSecret(shares));
+    assertArrayEquals(new byte[0], ShamirGF256.reconstructSecret(ShamirGF256.createShares(secureRandom, new byte[0], 2, 3)));
+  }
+
+  @Test
+  void testLargeSecretsAndMaxShares() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new byte[1 << 16];
+    random.nextBytes(secret);
+    final var shares = ShamirGF256.createShares(random, secret, 17, ShamirGF256.MAX_SHARES);
+    final var subset = new byte[17][];
+    for (int i = 0; i < subset.length; i++) {
+      subset[i] = shares[ShamirGF256.MAX_SHARES - 1 - i * 13];
+    }
+    assertArrayEquals(secret, ShamirGF256.reconstructSecret(subset));
+
+    final var oneShare = ShamirGF256.createShares(random, secret, 1, 1);
+    assertArrayEquals(secret, ShamirGF256.reconstructSecret(oneShare));
+  }
+
+  @Test
+  void testParallelChunks() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new byte[ShamirGF256.PARALLEL_THRESHOLD + ShamirGF256.CHUNK_SIZE + 7];
+    random.nextBytes(secret);
+    final var shares = ShamirGF256.createShares(random, secret, 3, 5);
+    assertArrayEquals(secret, ShamirGF256.reconstructSecret(shares[4], shares[1], shares[2]));
+    assertArrayEquals(secret, ShamirGF256.reconstructSecret(shares[0], shares[3], shares[1]));
+    final var chunk = new byte[ShamirGF256.CHUNK_SIZE + 1];
+    for (int i = 0; i < shares.length; i++) {
+      System.arraycopy(shares[i], 0, chunk, 0, chunk.length);
+      shares[i] = chunk.clone();
+    }
+    assertArrayEquals(Arrays.copyOf(secret, ShamirGF256.CHUNK_SIZE), ShamirGF256.reconstructSecret(shares[2], shares[3], shares[4]));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new byte[]{1, 2, 3};
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.createShares(random, secret, 0, 3));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.createShares(random, secret, 4, 3));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.createShares(random, secret, 2, 256));
+    final var shares = ShamirGF256.createShares(random, secret, 2, 3);
+    assertThrows(IllegalArgumentException.class, ShamirGF256::reconstructSecret);
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.reconstructSecret(shares[0], shares[0]));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.reconstructSecret(shares[0], new byte[]{2, 1}));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF256.reconstructSecret(shares[0], new byte[]{0, 1, 2, 3}));
+  }
+}
@@ -0,0 +1,81 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirGF65536Test {
+
+  @Test
+  void testFieldArithmetic() {
+    final var random = ThreadLocalRandom.current();
+    for (int a = 1; a <= ShamirGF65536.MAX_SHARES; a++) {
+      assertEquals(1, ShamirGF65536.multiply(a, ShamirGF65536.inverse(a)));
+      assertEquals(a, ShamirGF65536.multiply(a, 1));
+      assertEquals(0, ShamirGF65536.multiply(0, a));
+      final int b = random.nextInt(1 << 16);
+      final int c = random.nextInt(1 << 16);
+      assertEquals(ShamirGF65536.multiply(a, b) ^ ShamirGF65536.multiply(a, c), ShamirGF65536.multiply(a, b ^ c));
+    }
+    assertThrows(ArithmeticException.class, () -> ShamirGF65536.inverse(0));
+  }
+
+  @Test
+  void testThousandsOfShares() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new char[64];
+    for (int i = 0; i < secret.length; i++) {
+      secret[i] = (char) random.nextInt(1 << 16);
+    }
+    final int numShares = 5_000;
+    final var shares = ShamirGF65536.createShares(random, secret, 7, numShares);
+    assertEquals(numShares, shares.length);
+    for (int i = 0; i < numShares; i++) {
+      assertEquals(i + 1, shares[i][0]);
+      assertEquals(secret.length + 1, shares[i].length);
+    }
+    final var subset = new char[7][];
+    for (int i = 0; i < subset.length; i++) {
+      subset[i] = shares[numShares - 1 - i * 700];
+    }
+    assertArrayEquals(secret, ShamirGF65536.reconstructSecret(subset));
+    assertArrayEquals(secret, ShamirGF65536.reconstructSecret(shares[0], shares[300], shares[255], shares[256], shares[4_000], shares[1], shares[65]));
+  }
+
+  @Test
+  void testLargeThreshold() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new char[]{'s', 'e', 'c', 'r', 'e', 't'};
+    final var shares = ShamirGF65536.createShares(random, secret, 300, 400);
+    final var subset = new char[300][];
+    System.arraycopy(shares, 100, subset, 0, subset.length);
+    assertArrayEquals(secret, ShamirGF65536.reconstructSecret(subset));
+  }
+
+  @Test
+  void testParallelChunks() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new char[ShamirGF65536.PARALLEL_THRESHOLD + 3];
+    for (int i = 0; i < secret.length; i++) {
+      secret[i] = (char) random.nextInt(1 << 16);
+    }
+    final var shares = ShamirGF65536.createShares(random, secret, 2, 3);
+    assertArrayEquals(secret, ShamirGF65536.reconstructSecret(shares[2], shares[0]));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var random = ThreadLocalRandom.current();
+    final var secret = new char[]{1, 2, 3};
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.createShares(random, secret, 0, 3));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.createShares(random, secret, 4, 3));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.createShares(random, secret, 2, 65_536));
+    final var shares = ShamirGF65536.createShares(random, secret, 2, 3);
+    assertThrows(IllegalArgumentException.class, ShamirGF65536::reconstructSecret);
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.reconstructSecret(shares[1], shares[1]));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.reconstructSecret(shares[1], new char[]{0, 1, 2, 3}));
+    assertThrows(IllegalArgumentException.class, () -> ShamirGF65536.reconstructSecret(shares[1], new char[]{2, 1}));
+  }
+}
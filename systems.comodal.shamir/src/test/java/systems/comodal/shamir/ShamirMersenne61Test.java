@@ -0,0 +1,95 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirMersenne61Test {
+
+  @Test
+  void testFieldArithmetic() {
+    assertEquals(Shamir.createMersennePrimeFromExponent(61), ShamirMersenne61.BIG_PRIME);
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < 10_000; i++) {
+      final long a = random.nextLong(ShamirMersenne61.PRIME);
+      final long b = random.nextLong(ShamirMersenne61.PRIME);
+      final var bigA = valueOf(a);
+      final var bigB = valueOf(b);
+      assertEquals(bigA.multiply(bigB).mod(ShamirMersenne61.BIG_PRIME).longValue(), ShamirMersenne61.multiply(a, b));
+      assertEquals(bigA.add(bigB).mod(ShamirMersenne61.BIG_PRIME).longValue(), ShamirMersenne61.add(a, b));
+      assertEquals(bigA.subtract(bigB).mod(ShamirMersenne61.BIG_PRIME).longValue(), ShamirMersenne61.subtract(a, b));
+      if (a != 0) {
+        assertEquals(bigA.modInverse(ShamirMersenne61.BIG_PRIME).longValue(), ShamirMersenne61.inverse(a));
+      }
+      final long unreduced = random.nextLong();
+      assertEquals(new BigInteger(Long.toUnsignedString(unreduced)).mod(ShamirMersenne61.BIG_PRIME).longValue(), ShamirMersenne61.reduce(unreduced));
+    }
+    final var values = new long[]{1, 2, 3, ShamirMersenne61.PRIME - 1, random.nextLong(1, ShamirMersenne61.PRIME)};
+    final var inverses = values.clone();
+    ShamirMersenne61.inverse(inverses, inverses.length);
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(1, ShamirMersenne61.multiply(values[i], inverses[i]));
+    }
+    assertEquals(0, ShamirMersenne61.reduce(ShamirMersenne61.PRIME));
+    assertEquals(ShamirMersenne61.PRIME - 1, ShamirMersenne61.toField(-1));
+    assertThrows(ArithmeticException.class, () -> ShamirMersenne61.inverse(0));
+  }
+
+  @Test
+  void testCreateAndReconstruct() {
+    final var secureRandom = new SecureRandom();
+    final int numRequired = 5;
+    final int numShares = 9;
+    final var secrets = ShamirMersenne61.createSecrets(secureRandom, numRequired);
+    for (final long secret : secrets) {
+      assertTrue(secret > 0 && secret < ShamirMersenne61.PRIME);
+    }
+    final var shares = ShamirMersenne61.createShares(secrets, numShares);
+
+    final var bigSecrets = new BigInteger[numRequired];
+    for (int i = 0; i < numRequired; i++) {
+      bigSecrets[i] = valueOf(secrets[i]);
+    }
+    for (int i = 0; i < numShares; i++) {
+      final var position = valueOf(i + 1);
+      var expected = BigInteger.ZERO;
+      for (int exp = 0; exp < numRequired; exp++) {
+        expected = expected.add(bigSecrets[exp].multiply(position.pow(exp)));
+      }
+      assertEquals(expected.mod(ShamirMersenne61.BIG_PRIME).longValue(), shares[i]);
+    }
+
+    assertEquals(secrets[0], ShamirMersenne61.reconstructSecret(new int[]{1, 3, 5, 7, 9}, new long[]{shares[0], shares[2], shares[4], shares[6], shares[8]}));
+    assertEquals(secrets[0], ShamirMersenne61.reconstructSecret(new int[]{9, 2, 4, 6, 8}, new long[]{shares[8], shares[1], shares[3], shares[5], shares[7]}));
+    assertNotEquals(secrets[0], ShamirMersenne61.reconstructSecret(new int[]{1, 2, 3, 4}, new long[]{shares[0], shares[1], shares[2], shares[3]}));
+    assertThrows(ArithmeticException.class, () -> ShamirMersenne61.reconstructSecret(new int[]{1, 1}, new long[]{shares[0], shares[0]}));
+
+    final var secret = ShamirMersenne61.createSecret(secureRandom);
+    final var randomShares = ShamirMersenne61.createShares(secureRandom, secret, 2, 3);
+    assertEquals(secret, ShamirMersenne61.reconstructSecret(new int[]{3, 1}, new long[]{randomShares[2], randomShares[0]}));
+  }
+
+  @Test
+  void testSharesBuilderDispatch() {
+    final var sharesBuilder = Shamir.buildShares()
+        .mersennePrimeExponent(61)
+        .numRequiredShares(4)
+        .numShares(7)
+        .initSecrets();
+
+    final var shares = sharesBuilder.createShares();
+    sharesBuilder.validateShareCombinations(shares);
+
+    final var coordinates = new HashMap<BigInteger, BigInteger>();
+    for (int i = 3; i < 7; i++) {
+      coordinates.put(valueOf(i + 1), shares[i]);
+    }
+    assertEquals(sharesBuilder.getSecret(), Shamir.reconstructSecret(coordinates, sharesBuilder.getPrime()));
+  }
+}
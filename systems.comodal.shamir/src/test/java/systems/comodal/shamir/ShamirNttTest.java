@@ -0,0 +1,112 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirNttTest {
+
+  @Test
+  void testRootsOfUnity() {
+    for (final var prime : NttPrime.values()) {
+      assertTrue(prime.getPrime().isProbablePrime(64));
+      assertEquals(0, prime.getPrime().subtract(BigInteger.ONE).getLowestSetBit() - prime.getTwoAdicity());
+      final var root = prime.rootOfUnity(prime.getTwoAdicity());
+      final var order = BigInteger.ONE.shiftLeft(prime.getTwoAdicity());
+      assertEquals(BigInteger.ONE, root.modPow(order, prime.getPrime()));
+      assertNotEquals(BigInteger.ONE, root.modPow(order.shiftRight(1), prime.getPrime()));
+      assertEquals(BigInteger.ONE, prime.rootOfUnity(0));
+    }
+    assertThrows(IllegalArgumentException.class, () -> NttPrime.P_998244353.rootOfUnity(24));
+  }
+
+  @Test
+  void testSharesMatchPolynomial() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : NttPrime.values()) {
+      for (final int[] shape : new int[][]{{1, 1}, {2, 3}, {5, 8}, {17, 100}, {64, 64}}) {
+        final var secrets = Shamir.createSecrets(random, prime.getPrime(), shape[0]);
+        final var shares = ShamirNtt.createShares(prime, secrets, shape[1]);
+        final var positions = ShamirNtt.getPositions(prime, shape[1]);
+        assertEquals(shape[1], shares.length);
+        for (int i = 0; i < shares.length; i++) {
+          var expected = BigInteger.ZERO;
+          for (int exp = secrets.length - 1; exp >= 0; exp--) {
+            expected = expected.multiply(positions[i]).add(secrets[exp]).mod(prime.getPrime());
+          }
+          assertEquals(expected, shares[i]);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testReconstruction() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = NttPrime.GOLDILOCKS;
+    final int numShares = 128;
+    final int requiredShares = 13;
+    final var secret = Shamir.createSecret(random, prime.getPrime());
+    final var shares = ShamirNtt.createShares(random, prime, secret, requiredShares, numShares);
+
+    // Every fourth point, offset by one and shuffled.
+    final var cosetIndexes = new int[32];
+    final var cosetShares = new BigInteger[32];
+    for (int i = 0; i < 32; i++) {
+      cosetIndexes[i] = ((i * 7) % 32) * 4 + 1;
+      cosetShares[i] = shares[cosetIndexes[i]];
+    }
+    assertEquals(4, ShamirNtt.cosetStride(128, cosetIndexes));
+    assertEquals(secret, ShamirNtt.reconstructSecret(prime, numShares, cosetIndexes, cosetShares));
+    final var coefficients = ShamirNtt.interpolate(prime, numShares, cosetIndexes, cosetShares);
+    assertEquals(32, coefficients.length);
+    assertEquals(secret, coefficients[0]);
+    for (int i = requiredShares; i < coefficients.length; i++) {
+      assertEquals(BigInteger.ZERO, coefficients[i]);
+    }
+
+    final var subsetIndexes = new int[requiredShares];
+    final var subsetShares = new BigInteger[requiredShares];
+    final var coordinates = new HashMap<BigInteger, BigInteger>();
+    final var positions = ShamirNtt.getPositions(prime, numShares);
+    for (int i = 0; i < requiredShares; i++) {
+      subsetIndexes[i] = i * 7 + 2;
+      subsetShares[i] = shares[subsetIndexes[i]];
+      coordinates.put(positions[subsetIndexes[i]], subsetShares[i]);
+    }
+    assertEquals(-1, ShamirNtt.cosetStride(128, subsetIndexes));
+    assertEquals(secret, ShamirNtt.reconstructSecret(prime, numShares, subsetIndexes, subsetShares));
+    assertEquals(secret, Shamir.reconstructSecret(coordinates, prime.getPrime()));
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.interpolate(prime, numShares, subsetIndexes, subsetShares));
+  }
+
+  @Test
+  void testFullTransform() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = NttPrime.P_998244353;
+    final int numShares = 1 << 14;
+    final var secrets = Shamir.createSecrets(random, prime.getPrime(), numShares);
+    final var shares = ShamirNtt.createShares(prime, secrets, numShares);
+    final var indexes = new int[numShares];
+    for (int i = 0; i < numShares; i++) {
+      indexes[i] = i;
+    }
+    assertArrayEquals(secrets, ShamirNtt.interpolate(prime, numShares, indexes, shares));
+    assertEquals(secrets[0], ShamirNtt.reconstructSecret(prime, numShares, indexes, shares));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var prime = NttPrime.P_998244353;
+    final var secrets = new BigInteger[]{BigInteger.ONE, BigInteger.TWO};
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.createShares(prime, new BigInteger[0], 3));
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.createShares(prime, secrets, 1));
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.createShares(prime, secrets, prime.getMaxShares() + 1));
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.reconstructSecret(prime, 4, new int[]{0}, secrets));
+    assertThrows(IllegalArgumentException.class, () -> ShamirNtt.reconstructSecret(prime, 4, new int[]{0, 4}, secrets));
+  }
+}
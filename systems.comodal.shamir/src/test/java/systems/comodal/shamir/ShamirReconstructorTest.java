@@ -0,0 +1,97 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShamirReconstructorTest {
+
+  @Test
+  void testStreamingReconstruction() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{valueOf(73_939_133), Shamir.createMersennePrimeFromExponent(521)}) {
+      final int requiredShares = 9;
+      final var secrets = Shamir.createSecrets(random, prime, requiredShares);
+      final var shares = Shamir.createShares(prime, secrets, 30);
+      final var reconstructor = ShamirReconstructor.create(prime, 2);
+      assertEquals(prime, reconstructor.getPrime());
+      final var positions = random.ints(1, 31).distinct().limit(12).toArray();
+      for (int i = 0; i < positions.length; i++) {
+        reconstructor.offer(positions[i], shares[positions[i] - 1]);
+        assertEquals(i + 1, reconstructor.getNumShares());
+        if (i + 1 >= requiredShares) {
+          assertEquals(secrets[0], reconstructor.getSecret());
+        }
+      }
+      assertEquals(12, reconstructor.getPositions().length);
+      assertNotNull(reconstructor.toString());
+
+      reconstructor.clear();
+      assertEquals(0, reconstructor.getNumShares());
+      assertEquals(BigInteger.ZERO, reconstructor.getSecret());
+      for (int i = requiredShares; i > 0; i--) {
+        reconstructor.offer(valueOf(i).add(prime), shares[i - 1]);
+      }
+      assertEquals(secrets[0], reconstructor.getSecret());
+    }
+  }
+
+  @Test
+  void testMatchesLagrange() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var reconstructor = ShamirReconstructor.create(prime);
+    final var shareSet = new ShareSet();
+    for (int i = 0; i < 20; i++) {
+      final int position = i * 3 + 1;
+      final var share = new BigInteger(127, random);
+      reconstructor.offer(position, share);
+      shareSet.add(position, share);
+      assertEquals(shareSet.reconstructSecret(prime), reconstructor.getSecret());
+    }
+  }
+
+  @Test
+  void testCoefficients() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : new BigInteger[]{valueOf(73_939_133), ShamirMersenne61.BIG_PRIME, Shamir.createMersennePrimeFromExponent(521)}) {
+      for (final int requiredShares : new int[]{1, 2, 7, 40}) {
+        final var secrets = Shamir.createSecrets(random, prime, requiredShares);
+        final var shares = Shamir.createShares(prime, secrets, requiredShares + 5);
+        final var positions = random.ints(1, requiredShares + 6).distinct().limit(requiredShares).toArray();
+        final var selected = new BigInteger[requiredShares];
+        for (int i = 0; i < requiredShares; i++) {
+          selected[i] = shares[positions[i] - 1];
+        }
+        assertArrayEquals(secrets, Shamir.interpolateCoefficients(positions, selected, prime));
+      }
+    }
+    final var prime = valueOf(73_939_133);
+    final var secrets = Shamir.createSecrets(random, prime, 3);
+    final var shares = Shamir.createShares(prime, secrets, 6);
+    final var reconstructor = ShamirReconstructor.create(prime);
+    assertEquals(0, reconstructor.getCoefficients().length);
+    for (int i = 0; i < shares.length; i++) {
+      reconstructor.offer(i + 1, shares[i]);
+    }
+    final var coefficients = reconstructor.getCoefficients();
+    assertEquals(6, coefficients.length);
+    for (int i = 0; i < coefficients.length; i++) {
+      assertEquals(i < 3 ? secrets[i] : BigInteger.ZERO, coefficients[i]);
+    }
+    assertThrows(IllegalArgumentException.class,
+        () -> Shamir.interpolateCoefficients(new int[]{1}, new BigInteger[0], prime));
+  }
+
+  @Test
+  void testDuplicatePosition() {
+    final var reconstructor = ShamirReconstructor.create(valueOf(73_939_133)).offer(3, BigInteger.ONE);
+    assertThrows(IllegalArgumentException.class, () -> reconstructor.offer(3, BigInteger.TWO));
+    assertThrows(IllegalArgumentException.class, () -> reconstructor.offer(valueOf(3 + 73_939_133), BigInteger.TWO));
+    assertEquals(1, reconstructor.getNumShares());
+  }
+}
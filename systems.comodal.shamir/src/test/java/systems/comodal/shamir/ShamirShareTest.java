@@ -5,8 +5,13 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -297,6 +302,7 @@ final class ShamirShareTest {
 
     var shares = sharesBuilder.createShares();
 
+    sharesBuilder.validateShares(shares);
     sharesBuilder.validateShareCombinations(shares);
 
     var coordinates = Map.of(
@@ -318,6 +324,164 @@ final class ShamirShareTest {
 
   }
 
+  @Test
+  void testLinearShareValidation() {
+    for (final var prime : new BigInteger[]{ShamirMersenne61.BIG_PRIME, Shamir.createMersennePrimeFromExponent(521), valueOf(73_939_133)}) {
+      final var sharesBuilder = Shamir.buildShares()
+          .prime(prime)
+          .numRequiredShares(15)
+          .numShares(30)
+          .initSecrets();
+      final var shares = sharesBuilder.createShares();
+      sharesBuilder.validateShares(shares);
+      Shamir.validateShares(sharesBuilder.getSecret(), prime, 30, shares);
+
+      final var wrongSecret = sharesBuilder.getSecret().add(BigInteger.ONE).mod(prime);
+      assertThrows(IllegalStateException.class, () -> Shamir.validateShares(wrongSecret, prime, 15, shares));
+      for (final int index : new int[]{0, 14, 15, 29}) {
+        final var tampered = shares.clone();
+        tampered[index] = tampered[index].add(BigInteger.ONE).mod(prime);
+        assertThrows(IllegalStateException.class, () -> sharesBuilder.validateShares(tampered));
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> Shamir.validateShares(BigInteger.ONE, valueOf(73_939_133), 3, new BigInteger[2]));
+  }
+
+  @Test
+  void testParallelShareCombinations() {
+    final var pool = new ForkJoinPool(4);
+    try {
+      for (final var prime : new BigInteger[]{Shamir.createMersennePrimeFromExponent(127), valueOf(73_939_133)}) {
+        final var sharesBuilder = Shamir.buildShares()
+            .prime(prime)
+            .numRequiredShares(4)
+            .numShares(12)
+            .initSecrets();
+        final var shares = sharesBuilder.createShares();
+        sharesBuilder.validateShareCombinations(shares, pool);
+        Shamir.validateShareCombinations(sharesBuilder.getSecret(), prime, 12, shares, ForkJoinPool.commonPool());
+
+        final var tampered = shares.clone();
+        tampered[11] = tampered[11].add(BigInteger.ONE).mod(prime);
+        assertThrows(IllegalStateException.class, () -> sharesBuilder.validateShareCombinations(tampered, pool));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testShareSampling() {
+    final var random = ThreadLocalRandom.current();
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var sharesBuilder = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(50)
+        .numShares(100)
+        .initSecrets();
+    final var shares = sharesBuilder.createShares();
+    assertEquals(64, sharesBuilder.validateShareSamples(shares, 64, Duration.ofMinutes(1)));
+    assertEquals(1, Shamir.validateShareSamples(sharesBuilder.getSecret(), prime, 50, shares, random, 1_000_000, Duration.ZERO));
+    assertEquals(8, Shamir.validateShareSamples(sharesBuilder.getSecret(), prime, 50, shares, random, 8));
+
+    // Half of all 50-subsets include the first share.
+    final var tampered = shares.clone();
+    tampered[0] = tampered[0].add(BigInteger.ONE).mod(prime);
+    assertThrows(IllegalStateException.class, () -> sharesBuilder.validateShareSamples(tampered, 64, Duration.ofMinutes(1)));
+
+    assertEquals(459, Shamir.numSamplesForConfidence(0.99, 0.01));
+    assertEquals(1, Shamir.numSamplesForConfidence(0.99, 1));
+    assertThrows(IllegalArgumentException.class, () -> Shamir.numSamplesForConfidence(1, 0.5));
+    assertThrows(IllegalArgumentException.class, () -> Shamir.numSamplesForConfidence(0.9, 0));
+    assertThrows(IllegalArgumentException.class, () -> Shamir.validateShareSamples(BigInteger.ONE, prime, 3, shares, random, 0));
+    assertThrows(IllegalArgumentException.class, () -> Shamir.validateShareSamples(BigInteger.ONE, prime, 101, shares, random, 1));
+  }
+
+  @Test
+  void testShardedShareCombinations() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var sharesBuilder = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(4)
+        .numShares(12)
+        .initSecrets();
+    final var shares = sharesBuilder.createShares();
+    final var numCombinations = Combinations.countExact(12, 4);
+    final var checkpoints = new ArrayList<BigInteger>();
+    var total = BigInteger.ZERO;
+    for (final long[] shard : new long[][]{{0, 100}, {100, 101}, {101, 101}, {101, 495}}) {
+      total = total.add(sharesBuilder.validateShareCombinations(shares, valueOf(shard[0]), valueOf(shard[1]), 64, checkpoints::add));
+    }
+    Shamir.validateNChooseK(12, 4, total);
+    assertThrows(IllegalStateException.class, () -> Shamir.validateNChooseK(12, 4, numCombinations.subtract(BigInteger.ONE)));
+    assertEquals(List.of(valueOf(64), valueOf(100), valueOf(101), valueOf(101), valueOf(165), valueOf(229), valueOf(293), valueOf(357), valueOf(421), valueOf(485), valueOf(495)), checkpoints);
+
+    // {0, 1, 2, 8} at rank 5 is the first combination with the tampered share, resume from the last checkpoint before it.
+    final var tampered = shares.clone();
+    tampered[8] = tampered[8].add(BigInteger.ONE).mod(prime);
+    final var progress = new ArrayList<BigInteger>();
+    assertThrows(IllegalStateException.class, () -> sharesBuilder.validateShareCombinations(tampered, BigInteger.ZERO, numCombinations, 1, progress::add));
+    final var resumeRank = progress.get(progress.size() - 1);
+    assertEquals(valueOf(5), resumeRank);
+    assertThrows(IllegalStateException.class, () -> sharesBuilder.validateShareCombinations(tampered, resumeRank, numCombinations, 16, rank -> {}));
+    assertEquals(resumeRank, sharesBuilder.validateShareCombinations(tampered, BigInteger.ZERO, resumeRank, 16, rank -> {}));
+
+    assertThrows(IllegalArgumentException.class, () -> sharesBuilder.validateShareCombinations(shares, valueOf(2), BigInteger.ONE, 1, rank -> {}));
+    assertThrows(IllegalArgumentException.class, () -> sharesBuilder.validateShareCombinations(shares, BigInteger.ZERO, numCombinations.add(BigInteger.ONE), 1, rank -> {}));
+    assertThrows(IllegalArgumentException.class, () -> sharesBuilder.validateShareCombinations(shares, BigInteger.ZERO, BigInteger.ONE, 0, rank -> {}));
+  }
+
+  @Test
+  void testHugeRankRange() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var sharesBuilder = Shamir.buildShares()
+        .prime(prime)
+        .numRequiredShares(50)
+        .numShares(100)
+        .initSecrets();
+    final var shares = sharesBuilder.createShares();
+    final var numCombinations = Combinations.countExact(100, 50);
+    final var fromRank = numCombinations.shiftRight(1);
+    final var checkpoints = new ArrayList<BigInteger>();
+    assertEquals(valueOf(256), sharesBuilder.validateShareCombinations(shares, fromRank, fromRank.add(valueOf(256)), 100, checkpoints::add));
+    assertEquals(List.of(fromRank.add(valueOf(100)), fromRank.add(valueOf(200)), fromRank.add(valueOf(256))), checkpoints);
+    assertEquals(valueOf(32), sharesBuilder.validateShareCombinations(shares, numCombinations.subtract(valueOf(32)), numCombinations, 100, rank -> {}));
+  }
+
+  @Test
+  void testIntegerReconstruction() {
+    // f(x) = 42 + 3x - 7x^2 + 5x^3
+    final var coefficients = new long[]{42, 3, -7, 5};
+    final var random = ThreadLocalRandom.current();
+    for (final int[] positions : new int[][]{{1, 2, 3, 4}, {4, 2, 1, 3}, {1, 2, 3, 4, 5, 6}, {2, 5, -3, 7}, {-9, 11, 3, 100, 6}, {0, 5, 9, 10}}) {
+      final var coordinates = new ArrayList<Map.Entry<BigInteger, BigInteger>>();
+      for (final int x : positions) {
+        long y = 0;
+        for (int exp = coefficients.length - 1; exp >= 0; exp--) {
+          y = y * x + coefficients[exp];
+        }
+        coordinates.add(Map.entry(valueOf(x), valueOf(y)));
+      }
+      assertEquals(valueOf(42), Shamir.reconstructSecret(coordinates), () -> Arrays.toString(positions));
+    }
+
+    final var secret = new BigInteger(2_048, random);
+    final var bigCoefficients = new BigInteger[]{secret, new BigInteger(2_048, random).negate(), new BigInteger(2_048, random)};
+    final var coordinates = new ArrayList<Map.Entry<BigInteger, BigInteger>>();
+    for (int x = 1; x <= 3; x++) {
+      final var position = valueOf(x * 1_000_003L);
+      var y = BigInteger.ZERO;
+      for (int exp = bigCoefficients.length - 1; exp >= 0; exp--) {
+        y = y.multiply(position).add(bigCoefficients[exp]);
+      }
+      coordinates.add(Map.entry(position, y));
+    }
+    assertEquals(secret, Shamir.reconstructSecret(coordinates));
+
+    assertThrows(ArithmeticException.class, () -> Shamir.reconstructSecret(List.of(Map.entry(valueOf(1), valueOf(0)), Map.entry(valueOf(3), valueOf(1)))));
+    assertThrows(IllegalArgumentException.class, () -> Shamir.reconstructSecret(List.of(Map.entry(valueOf(2), valueOf(1)), Map.entry(valueOf(2), valueOf(2)))));
+  }
+
   private void validateToString(final Object object) {
     assertDoesNotThrow(object::toString, () -> object.getClass().getSimpleName() + "#toString failed");
   }
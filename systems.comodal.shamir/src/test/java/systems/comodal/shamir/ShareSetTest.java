@@ -0,0 +1,104 @@
+package systems.comodal.shamir;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.math.BigInteger.valueOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class ShareSetTest {
+
+  private static final BigInteger[] PRIMES = new BigInteger[]{
+      ShamirMersenne61.BIG_PRIME,
+      Shamir.createMersennePrimeFromExponent(127),
+      Shamir.createMersennePrimeFromExponent(521),
+      valueOf(73_939_133),
+      new BigInteger("115792089210356248762697446949407573530086143415290314195533631308867097853951")
+  };
+
+  @Test
+  void testPrimitiveReconstruction() {
+    final var random = ThreadLocalRandom.current();
+    final var shareSet = new ShareSet(2);
+    for (final var prime : PRIMES) {
+      final var secrets = Shamir.createSecrets(random, prime, 7);
+      final var shares = Shamir.createShares(prime, secrets, 20);
+      final var positions = random.ints(1, 21).distinct().limit(7).toArray();
+      final var selected = new BigInteger[positions.length];
+      final var coordinates = new HashMap<BigInteger, BigInteger>();
+      shareSet.clear();
+      for (int i = 0; i < positions.length; i++) {
+        selected[i] = shares[positions[i] - 1];
+        coordinates.put(valueOf(positions[i]), selected[i]);
+        shareSet.add(positions[i], selected[i]);
+      }
+      assertEquals(secrets[0], Shamir.reconstructSecret(positions, selected, prime));
+      assertEquals(secrets[0], Shamir.reconstructSecret(coordinates, prime));
+      assertEquals(secrets[0], shareSet.reconstructSecret(prime));
+      assertEquals(secrets[0], ShareSet.of(positions, selected).reconstructSecret(prime));
+      assertEquals(7, shareSet.size());
+      assertArrayEquals(positions, shareSet.getPositions());
+      assertArrayEquals(selected, shareSet.getShares());
+      assertEquals(positions[3], shareSet.getPosition(3));
+      assertEquals(selected[3], shareSet.getShare(3));
+    }
+  }
+
+  @Test
+  void testReuse() {
+    final var prime = Shamir.createMersennePrimeFromExponent(127);
+    final var secrets = Shamir.createSecrets(ThreadLocalRandom.current(), prime, 3);
+    final var shares = Shamir.createShares(prime, secrets, 6);
+    final var shareSet = new ShareSet();
+    for (int offset = 0; offset <= 3; offset++) {
+      shareSet.clear();
+      assertEquals(0, shareSet.size());
+      for (int i = offset; i < offset + 3; i++) {
+        shareSet.add(i + 1, shares[i]);
+      }
+      assertEquals(secrets[0], shareSet.reconstructSecret(prime));
+    }
+    assertTrue(shareSet.toString().contains("\"positions\":[4, 5, 6]"));
+  }
+
+  @Test
+  void testRepairShares() {
+    final var random = ThreadLocalRandom.current();
+    for (final var prime : PRIMES) {
+      final var secrets = Shamir.createSecrets(random, prime, 5);
+      final var shares = Shamir.createShares(prime, secrets, 12);
+      final var shareSet = new ShareSet();
+      for (final int position : new int[]{2, 5, 7, 8, 11}) {
+        shareSet.add(position, shares[position - 1]);
+      }
+      assertEquals(shares[0], shareSet.repairShare(1, prime));
+      assertEquals(shares[7], shareSet.repairShare(8, prime));
+      final var lost = new int[]{1, 3, 4, 6, 9, 10, 12};
+      final var repaired = shareSet.repairShares(lost, prime);
+      for (int i = 0; i < lost.length; i++) {
+        assertEquals(shares[lost[i] - 1], repaired[i]);
+      }
+      assertEquals(shares[2], Shamir.repairShare(3, shareSet.getPositions(), shareSet.getShares(), prime));
+      // A share beyond the originally dealt positions for a new custodian.
+      var expected = BigInteger.ZERO;
+      for (int exp = secrets.length - 1; exp >= 0; exp--) {
+        expected = expected.multiply(valueOf(40)).add(secrets[exp]).mod(prime);
+      }
+      assertEquals(expected, shareSet.repairShare(40, prime));
+    }
+    assertThrows(IllegalArgumentException.class, () -> new ShareSet().add(1, BigInteger.ONE).repairShare(0, valueOf(73_939_133)));
+    assertThrows(IllegalArgumentException.class, () -> new ShareSet().repairShare(1, valueOf(73_939_133)));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    final var shareSet = new ShareSet().add(1, BigInteger.ONE);
+    assertThrows(IllegalArgumentException.class, () -> shareSet.add(1, BigInteger.TWO));
+    assertThrows(IllegalArgumentException.class, () -> ShareSet.of(new int[]{1, 2}, new BigInteger[]{BigInteger.ONE}));
+    assertThrows(IllegalArgumentException.class,
+        () -> Shamir.reconstructSecret(new int[]{1, 2}, new BigInteger[]{BigInteger.ONE}, valueOf(73_939_133)));
+  }
+}